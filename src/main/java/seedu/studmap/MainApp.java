@@ -28,6 +28,7 @@ import seedu.studmap.storage.Storage;
 import seedu.studmap.storage.StorageManager;
 import seedu.studmap.storage.StudMapStorage;
 import seedu.studmap.storage.UserPrefsStorage;
+import seedu.studmap.storage.WriteBehindStudMapStorage;
 import seedu.studmap.ui.Ui;
 import seedu.studmap.ui.UiManager;
 
@@ -56,7 +57,9 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        StudMapStorage studMapStorage = new JsonStudMapStorage(userPrefs.getStudMapFilePath());
+        StudMapStorage studMapStorage = new WriteBehindStudMapStorage(
+                new JsonStudMapStorage(userPrefs.getStudMapFilePath()),
+                config.getSavePolicy(), config.getSaveDelayMillis());
         storage = new StorageManager(studMapStorage, userPrefsStorage);
 
         initLogging(config);
@@ -174,6 +177,11 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Student Map ] =============================");
+        try {
+            logic.flushStudMap();
+        } catch (IOException e) {
+            logger.severe("Failed to save student map " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
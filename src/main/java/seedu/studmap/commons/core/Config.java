@@ -15,6 +15,8 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private SavePolicy savePolicy = SavePolicy.EVERY_COMMAND;
+    private long saveDelayMillis = 1000;
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +34,22 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public SavePolicy getSavePolicy() {
+        return savePolicy;
+    }
+
+    public void setSavePolicy(SavePolicy savePolicy) {
+        this.savePolicy = savePolicy;
+    }
+
+    public long getSaveDelayMillis() {
+        return saveDelayMillis;
+    }
+
+    public void setSaveDelayMillis(long saveDelayMillis) {
+        this.saveDelayMillis = saveDelayMillis;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +62,14 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && Objects.equals(savePolicy, o.savePolicy)
+                && saveDelayMillis == o.saveDelayMillis;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, savePolicy, saveDelayMillis);
     }
 
     @Override
@@ -57,6 +77,7 @@ public class Config {
         StringBuilder sb = new StringBuilder();
         sb.append("Current log level : " + logLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nSave policy : " + savePolicy + " (delay " + saveDelayMillis + " ms)");
         return sb.toString();
     }
 
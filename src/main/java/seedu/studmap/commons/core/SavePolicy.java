@@ -0,0 +1,13 @@
+package seedu.studmap.commons.core;
+
+/**
+ * When changes to the student map are written to the data file.
+ */
+public enum SavePolicy {
+    /** Writes the student map after every command that changes it. */
+    EVERY_COMMAND,
+    /** Writes the student map once the save delay has passed without another change. */
+    DEBOUNCED,
+    /** Writes the student map only when the app exits. */
+    ON_EXIT
+}
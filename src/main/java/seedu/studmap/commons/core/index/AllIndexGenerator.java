@@ -1,20 +1,35 @@
 package seedu.studmap.commons.core.index;
 
 import java.util.List;
+import java.util.stream.IntStream;
 
 import seedu.studmap.model.Model;
+import seedu.studmap.model.student.Student;
 
 /**
  * An IndexListGenerator that generates all the indices of filtered students.
  */
 public class AllIndexGenerator extends IndexListGenerator {
 
-
     @Override
     public List<Index> apply(Model model) {
         return model.getFilteredStudentIndices();
     }
 
+    @Override
+    public IntStream getZeroBasedIndices(Model model) {
+        return IntStream.range(0, model.getFilteredStudentList().size());
+    }
+
+    /**
+     * Returns a copy of the filtered student list, without creating an index for each student. The list is copied
+     * because commands change the students they are given, which changes the filtered student list.
+     */
+    @Override
+    public List<Student> getStudents(Model model) {
+        return List.copyOf(model.getFilteredStudentList());
+    }
+
     @Override
     public boolean equals(Object other) {
         if (this == other) {
@@ -1,12 +1,46 @@
 package seedu.studmap.commons.core.index;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.PrimitiveIterator;
 import java.util.function.Function;
+import java.util.stream.IntStream;
 
+import seedu.studmap.commons.core.Messages;
+import seedu.studmap.commons.exceptions.IllegalValueException;
 import seedu.studmap.model.Model;
+import seedu.studmap.model.student.Student;
 
 /**
  * An abstract class for a functional interface that generates indices.
  */
 public abstract class IndexListGenerator implements Function<Model, List<Index>> {
+
+    /**
+     * Returns the generated indices as zero-based primitive ints. Generators that can produce their indices without
+     * creating an {@code Index} for each of them should override this.
+     */
+    public IntStream getZeroBasedIndices(Model model) {
+        return apply(model).stream().mapToInt(Index::getZeroBased);
+    }
+
+    /**
+     * Returns the students that this generator selects in {@code model}. By default, these are the students at the
+     * generated indices of the filtered student list.
+     *
+     * @throws IllegalValueException if a student cannot be found, with a message for the user.
+     */
+    public List<Student> getStudents(Model model) throws IllegalValueException {
+        List<Student> lastShownList = model.getFilteredStudentList();
+        List<Student> students = new ArrayList<>();
+        PrimitiveIterator.OfInt indices = getZeroBasedIndices(model).iterator();
+        while (indices.hasNext()) {
+            int index = indices.nextInt();
+            if (index >= lastShownList.size()) {
+                throw new IllegalValueException(Messages.MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX);
+            }
+            students.add(lastShownList.get(index));
+        }
+        return students;
+    }
 }
@@ -0,0 +1,93 @@
+package seedu.studmap.commons.core.index;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.studmap.commons.util.AppUtil.checkArgument;
+import static seedu.studmap.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import seedu.studmap.model.Model;
+
+/**
+ * An IndexListGenerator that generates the indices in a union of ranges, such as {@code 1-200,305,410-420}.
+ * The ranges are held as pairs of primitive bounds, so a range takes the same space however many indices it covers,
+ * and the indices are generated in ascending order without duplicates.
+ */
+public class IndexRangeGenerator extends IndexListGenerator {
+
+    /** Zero-based bounds of disjoint ranges in ascending order, where range i is [bounds[2i], bounds[2i + 1]). */
+    private final int[] bounds;
+
+    private IndexRangeGenerator(int[] bounds) {
+        this.bounds = bounds;
+    }
+
+    @Override
+    public IntStream getZeroBasedIndices(Model model) {
+        return IntStream.range(0, bounds.length / 2)
+                .flatMap(range -> IntStream.range(bounds[2 * range], bounds[2 * range + 1]));
+    }
+
+    @Override
+    public List<Index> apply(Model model) {
+        return getZeroBasedIndices(model).mapToObj(Index::fromZeroBased).collect(Collectors.toList());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof IndexRangeGenerator // instanceof handles nulls
+                && Arrays.equals(bounds, ((IndexRangeGenerator) other).bounds)); // state check
+    }
+
+    /**
+     * Collects ranges of indices into an {@code IndexRangeGenerator}, merging ranges that overlap or touch.
+     */
+    public static class Builder {
+
+        private final List<int[]> ranges = new ArrayList<>();
+
+        /**
+         * Adds the indices from {@code first} to {@code last}, both inclusive.
+         */
+        public Builder addRange(Index first, Index last) {
+            requireAllNonNull(first, last);
+            checkArgument(first.getZeroBased() <= last.getZeroBased(), "The first index of a range must not be "
+                    + "after its last index");
+            ranges.add(new int[] {first.getZeroBased(), last.getZeroBased() + 1});
+            return this;
+        }
+
+        /**
+         * Adds the single index {@code index}.
+         */
+        public Builder addIndex(Index index) {
+            requireNonNull(index);
+            return addRange(index, index);
+        }
+
+        /**
+         * Returns a generator of the indices added so far. At least one range must have been added.
+         */
+        public IndexRangeGenerator build() {
+            checkArgument(!ranges.isEmpty(), "At least one index is needed");
+            ranges.sort(Comparator.comparingInt(range -> range[0]));
+            int[] bounds = new int[2 * ranges.size()];
+            int length = 0;
+            for (int[] range : ranges) {
+                if (length > 0 && range[0] <= bounds[length - 1]) {
+                    bounds[length - 1] = Math.max(bounds[length - 1], range[1]);
+                } else {
+                    bounds[length++] = range[0];
+                    bounds[length++] = range[1];
+                }
+            }
+            return new IndexRangeGenerator(Arrays.copyOf(bounds, length));
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.studmap.commons.core.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.studmap.commons.core.Messages;
+import seedu.studmap.commons.exceptions.IllegalValueException;
+import seedu.studmap.model.Model;
+import seedu.studmap.model.student.Student;
+
+/**
+ * An IndexListGenerator that selects the students that satisfy a predicate, such as the filter of a where clause,
+ * whether or not they are in the filtered student list. The students are found through the indexes of the model,
+ * so the filtered student list is neither scanned nor changed.
+ */
+public class PredicateListGenerator extends IndexListGenerator {
+
+    private final Predicate<Student> predicate;
+
+    /**
+     * Constructs a generator that selects the students that satisfy {@code predicate}.
+     */
+    public PredicateListGenerator(Predicate<Student> predicate) {
+        requireNonNull(predicate);
+        this.predicate = predicate;
+    }
+
+    public Predicate<Student> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Returns the indices of the selected students that are in the filtered student list.
+     */
+    @Override
+    public List<Index> apply(Model model) {
+        requireNonNull(model);
+        Predicate<Student> indexedPredicate = model.getIndexedPredicate(predicate);
+        List<Student> lastShownList = model.getFilteredStudentList();
+        List<Index> indices = new ArrayList<>();
+        for (int i = 0; i < lastShownList.size(); i++) {
+            if (indexedPredicate.test(lastShownList.get(i))) {
+                indices.add(Index.fromZeroBased(i));
+            }
+        }
+        return indices;
+    }
+
+    /**
+     * Returns the students that satisfy the predicate of this generator, including those that are not in the
+     * filtered student list.
+     *
+     * @throws IllegalValueException if no student satisfies the predicate.
+     */
+    @Override
+    public List<Student> getStudents(Model model) throws IllegalValueException {
+        requireNonNull(model);
+        List<Student> students = model.getStudentsMatching(predicate);
+        if (students.isEmpty()) {
+            throw new IllegalValueException(Messages.MESSAGE_NO_MATCHING_STUDENTS);
+        }
+        return students;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PredicateListGenerator // instanceof handles nulls
+                && predicate.equals(((PredicateListGenerator) other).predicate)); // state check
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.studmap.commons.core.index;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.studmap.commons.util.AppUtil.checkArgument;
+import static seedu.studmap.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import seedu.studmap.commons.core.Messages;
+import seedu.studmap.commons.exceptions.IllegalValueException;
+import seedu.studmap.model.Model;
+import seedu.studmap.model.student.Student;
+import seedu.studmap.model.student.StudentID;
+
+/**
+ * An IndexListGenerator that selects students by their student IDs, whether or not they are in the filtered
+ * student list. Each student ID is looked up in the student map's index of student IDs.
+ */
+public class StudentIdListGenerator extends IndexListGenerator {
+
+    private final List<StudentID> ids;
+
+    /**
+     * Constructs a generator that selects the students with any of {@code ids}. There must be at least one ID.
+     */
+    public StudentIdListGenerator(List<StudentID> ids) {
+        requireAllNonNull(ids);
+        checkArgument(!ids.isEmpty(), "At least one student ID is needed");
+        this.ids = List.copyOf(new LinkedHashSet<>(ids));
+    }
+
+    public List<StudentID> getIds() {
+        return ids;
+    }
+
+    /**
+     * Returns the indices of the selected students that are in the filtered student list.
+     * The position of each shown student is looked up once, so the time taken grows linearly with the number of IDs.
+     */
+    @Override
+    public List<Index> apply(Model model) {
+        requireNonNull(model);
+        List<Student> lastShownList = model.getFilteredStudentList();
+        Map<Student, Integer> shownPositions = new HashMap<>();
+        for (int i = 0; i < lastShownList.size(); i++) {
+            shownPositions.putIfAbsent(lastShownList.get(i), i);
+        }
+
+        List<Index> indices = new ArrayList<>();
+        for (StudentID id : ids) {
+            for (Student student : model.getStudentsWithId(id)) {
+                Integer position = shownPositions.get(student);
+                if (position != null) {
+                    indices.add(Index.fromZeroBased(position));
+                }
+            }
+        }
+        return indices;
+    }
+
+    /**
+     * Returns the students with the student IDs of this generator, including those that are not in the filtered
+     * student list.
+     *
+     * @throws IllegalValueException if no student has one of the student IDs.
+     */
+    @Override
+    public List<Student> getStudents(Model model) throws IllegalValueException {
+        requireNonNull(model);
+        List<Student> students = new ArrayList<>();
+        for (StudentID id : ids) {
+            List<Student> matches = model.getStudentsWithId(id);
+            if (matches.isEmpty()) {
+                throw new IllegalValueException(String.format(Messages.MESSAGE_UNKNOWN_STUDENT_ID, id));
+            }
+            students.addAll(matches);
+        }
+        return students;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof StudentIdListGenerator // instanceof handles nulls
+                && ids.equals(((StudentIdListGenerator) other).ids)); // state check
+    }
+}
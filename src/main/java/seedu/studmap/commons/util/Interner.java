@@ -0,0 +1,48 @@
+package seedu.studmap.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A pool of canonical instances of an immutable value type, so that the many equal values read for different records
+ * share one instance. A value is created from its key the first time the key is interned, and is kept for as long as
+ * the pool is, so pools should only hold values drawn from a small vocabulary, such as module codes or tag names.
+ * Guarantees: thread-safe.
+ *
+ * @param <K> the type of the keys values are created from, such as their string forms.
+ * @param <V> the type of the pooled values.
+ */
+public class Interner<K, V> {
+
+    private final Map<K, V> pool = new ConcurrentHashMap<>();
+    private final Function<? super K, ? extends V> factory;
+
+    /**
+     * Creates an empty pool whose values are created from their keys by {@code factory}.
+     * Exceptions thrown by {@code factory}, such as for invalid keys, are passed on to the caller of
+     * {@link #intern(Object)}.
+     */
+    public Interner(Function<? super K, ? extends V> factory) {
+        requireNonNull(factory);
+        this.factory = factory;
+    }
+
+    /**
+     * Returns the canonical value for {@code key}, creating it if this is the first time {@code key} is interned.
+     */
+    public V intern(K key) {
+        requireNonNull(key);
+        V value = pool.get(key);
+        return value != null ? value : pool.computeIfAbsent(key, factory);
+    }
+
+    /**
+     * Returns the number of values in the pool.
+     */
+    public int size() {
+        return pool.size();
+    }
+}
@@ -38,6 +38,25 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns {@code value} with the case of every character folded the same way
+     * {@link String#equalsIgnoreCase(String)} compares characters, so that two strings are equal ignoring case
+     * if and only if their folded forms are equal.
+     *   <br>examples:<pre>
+     *       foldCase("ABc") == "abc"
+     *       foldCase("abc").equals(foldCase("ABC")) == true
+     *       </pre>
+     * @param value cannot be null
+     */
+    public static String foldCase(String value) {
+        requireNonNull(value);
+        StringBuilder builder = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            builder.append(Character.toLowerCase(Character.toUpperCase(value.charAt(i))));
+        }
+        return builder.toString();
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
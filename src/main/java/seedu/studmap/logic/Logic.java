@@ -1,12 +1,17 @@
 package seedu.studmap.logic;
 
 import java.io.File;
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.studmap.commons.core.GuiSettings;
 import seedu.studmap.logic.commands.CommandResult;
 import seedu.studmap.logic.commands.exceptions.CommandException;
+import seedu.studmap.logic.exports.ExportOptions;
+import seedu.studmap.logic.exports.exceptions.ExportException;
+import seedu.studmap.logic.imports.ImportOptions;
 import seedu.studmap.logic.imports.exceptions.ImportException;
 import seedu.studmap.logic.parser.exceptions.ParseException;
 import seedu.studmap.model.ReadOnlyStudMap;
@@ -50,5 +55,33 @@ public interface Logic {
      */
     void setGuiSettings(GuiSettings guiSettings);
 
-    String importFile(File file) throws ImportException;
+    /**
+     * Imports the students in the CSV {@code file} with the given {@code options}, or the records of existing
+     * students if {@code options} is for a roll call. Any changes are saved, as those of a command are.
+     *
+     * @return The log of the import, with a report of the changes for upserts, roll calls and dry runs.
+     * @throws ImportException If the file cannot be imported, or the changes cannot be saved.
+     */
+    String importFile(File file, ImportOptions options) throws ImportException;
+
+    /**
+     * Exports the students selected by {@code options} to {@code file}.
+     *
+     * @return The number of students exported.
+     * @throws ExportException If the file cannot be written.
+     */
+    String exportFile(File file, ExportOptions options) throws ExportException;
+
+    /**
+     * Saves the student map if it changed since it was last saved, and waits until every save is written.
+     *
+     * @throws IOException If the student map cannot be written.
+     */
+    void flushStudMap() throws IOException;
+
+    /**
+     * Sets the {@code handler} of the messages of problems saving the student map that occur after the command that
+     * changed it returned. The handler may be called from any thread.
+     */
+    void setSaveFailureHandler(Consumer<String> handler);
 }
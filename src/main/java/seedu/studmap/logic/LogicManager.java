@@ -1,8 +1,11 @@
 package seedu.studmap.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -11,7 +14,12 @@ import seedu.studmap.commons.core.LogsCenter;
 import seedu.studmap.logic.commands.Command;
 import seedu.studmap.logic.commands.CommandResult;
 import seedu.studmap.logic.commands.exceptions.CommandException;
+import seedu.studmap.logic.exports.ExportOptions;
+import seedu.studmap.logic.exports.ExportStudents;
+import seedu.studmap.logic.exports.exceptions.ExportException;
 import seedu.studmap.logic.imports.ImportCsv;
+import seedu.studmap.logic.imports.ImportOptions;
+import seedu.studmap.logic.imports.ImportRollCall;
 import seedu.studmap.logic.imports.exceptions.ImportException;
 import seedu.studmap.logic.parser.StudMapParser;
 import seedu.studmap.logic.parser.exceptions.ParseException;
@@ -31,6 +39,9 @@ public class LogicManager implements Logic {
     private final Storage storage;
     private final StudMapParser studMapParser;
     private final ImportCsv importer;
+    private final ImportRollCall rollCallImporter;
+    private final ExportStudents exporter;
+    private long savedModificationCount;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -40,6 +51,9 @@ public class LogicManager implements Logic {
         this.storage = storage;
         studMapParser = new StudMapParser();
         importer = new ImportCsv();
+        rollCallImporter = new ImportRollCall();
+        exporter = new ExportStudents();
+        savedModificationCount = model.getStudMap().getModificationCount();
     }
 
     @Override
@@ -51,7 +65,7 @@ public class LogicManager implements Logic {
         commandResult = command.execute(model);
 
         try {
-            storage.saveStudMap(model.getStudMap());
+            saveStudMapIfModified();
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
@@ -59,6 +73,22 @@ public class LogicManager implements Logic {
         return commandResult;
     }
 
+    /**
+     * Saves the student map if it was changed since it was last saved.
+     * Commands that only read the student map, such as {@code list} and {@code find}, do not write the data file.
+     */
+    private void saveStudMapIfModified() throws IOException {
+        ReadOnlyStudMap studMap = model.getStudMap();
+        long modificationCount = studMap.getModificationCount();
+        if (modificationCount == savedModificationCount) {
+            logger.fine("Student map unchanged, skipping save");
+            return;
+        }
+
+        storage.saveStudMap(studMap);
+        savedModificationCount = modificationCount;
+    }
+
     @Override
     public ReadOnlyStudMap getStudMap() {
         return model.getStudMap();
@@ -85,7 +115,33 @@ public class LogicManager implements Logic {
     }
 
     @Override
-    public String importFile(File file) throws ImportException {
-        return importer.execute(model, file);
+    public String importFile(File file, ImportOptions options) throws ImportException {
+        String log = options.isRollCall()
+                ? rollCallImporter.execute(model, file, options)
+                : importer.execute(model, file, options);
+
+        try {
+            saveStudMapIfModified();
+        } catch (IOException ioe) {
+            throw new ImportException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+        }
+        return log;
+    }
+
+    @Override
+    public void flushStudMap() throws IOException {
+        saveStudMapIfModified();
+        storage.flushStudMap();
+    }
+
+    @Override
+    public String exportFile(File file, ExportOptions options) throws ExportException {
+        return exporter.execute(model, file, options);
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> handler) {
+        requireNonNull(handler);
+        storage.setSaveFailureHandler(ioe -> handler.accept(FILE_OPS_ERROR_MESSAGE + ioe));
     }
 }
@@ -4,6 +4,9 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.Objects;
 
+import seedu.studmap.logic.exports.ExportOptions;
+import seedu.studmap.logic.imports.ImportOptions;
+
 /**
  * Represents the result of a command execution.
  */
@@ -20,6 +23,12 @@ public class CommandResult {
     /** The application should exit. */
     private final boolean exit;
 
+    /** The options of the import of the file chosen, if a file browser should be shown. */
+    private final ImportOptions importOptions;
+
+    /** The options of the export to the file chosen, or null if no file to save to should be chosen. */
+    private final ExportOptions exportOptions;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
@@ -28,6 +37,34 @@ public class CommandResult {
         this.showHelp = showHelp;
         this.chooseFile = chooseFile;
         this.exit = exit;
+        this.importOptions = ImportOptions.INSERT;
+        this.exportOptions = null;
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified {@code feedbackToUser} that shows a file browser,
+     * to import the file chosen with {@code importOptions}.
+     */
+    public CommandResult(String feedbackToUser, ImportOptions importOptions) {
+        this.feedbackToUser = requireNonNull(feedbackToUser);
+        this.showHelp = false;
+        this.chooseFile = true;
+        this.exit = false;
+        this.importOptions = requireNonNull(importOptions);
+        this.exportOptions = null;
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified {@code feedbackToUser} that shows a file browser,
+     * to export to the file chosen with {@code exportOptions}.
+     */
+    public CommandResult(String feedbackToUser, ExportOptions exportOptions) {
+        this.feedbackToUser = requireNonNull(feedbackToUser);
+        this.showHelp = false;
+        this.chooseFile = false;
+        this.exit = false;
+        this.importOptions = ImportOptions.INSERT;
+        this.exportOptions = requireNonNull(exportOptions);
     }
 
     /**
@@ -54,6 +91,21 @@ public class CommandResult {
         return chooseFile;
     }
 
+    public ImportOptions getImportOptions() {
+        return importOptions;
+    }
+
+    /**
+     * Returns true if a file browser should be shown to the user, to choose the file to export to.
+     */
+    public boolean isSaveFile() {
+        return exportOptions != null;
+    }
+
+    public ExportOptions getExportOptions() {
+        return exportOptions;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -68,7 +120,9 @@ public class CommandResult {
         CommandResult otherCommandResult = (CommandResult) other;
         return feedbackToUser.equals(otherCommandResult.feedbackToUser)
                 && showHelp == otherCommandResult.showHelp
-                && exit == otherCommandResult.exit;
+                && exit == otherCommandResult.exit
+                && importOptions.equals(otherCommandResult.importOptions)
+                && Objects.equals(exportOptions, otherCommandResult.exportOptions);
     }
 
     @Override
@@ -2,12 +2,10 @@ package seedu.studmap.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.ArrayList;
 import java.util.List;
 
-import seedu.studmap.commons.core.Messages;
-import seedu.studmap.commons.core.index.Index;
 import seedu.studmap.commons.core.index.IndexListGenerator;
+import seedu.studmap.commons.exceptions.IllegalValueException;
 import seedu.studmap.logic.commands.exceptions.CommandException;
 import seedu.studmap.model.Model;
 import seedu.studmap.model.student.Student;
@@ -20,9 +18,13 @@ public class DeleteCommand extends Command {
     public static final String COMMAND_WORD = "delete";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Deletes the student identified by the index number used in the displayed student list.\n"
-            + "Parameters: INDEX (must be a positive integer)\n"
-            + "Example: " + COMMAND_WORD + " 1";
+            + ": Deletes the students identified by the index numbers used in the displayed student list,\n"
+            + "or the students with the given student IDs.\n"
+            + "Parameters: INDEX (must be a positive integer), a list of indices and ranges such as 1-3,5,\n"
+            + "or #STUDENT_ID[,MORE_STUDENT_IDS]...\n"
+            + "Example: " + COMMAND_WORD + " 1\n"
+            + "Example: " + COMMAND_WORD + " 1-3,5\n"
+            + "Example: " + COMMAND_WORD + " #E1234567,E7654321";
 
     public static final String MESSAGE_DELETE_SINGLE_STUDENT_SUCCESS = "Deleted Student: %1$s";
 
@@ -38,17 +40,14 @@ public class DeleteCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
 
         requireNonNull(model);
-        List<Student> lastShownList = model.getFilteredStudentList();
-        List<Student> studentsToDelete = new ArrayList<>();
-
-        for (Index index : indicesToEdit.apply(model)) {
-            if (index.getZeroBased() >= lastShownList.size()) {
-                throw new CommandException(Messages.MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX);
-            }
-            studentsToDelete.add(lastShownList.get(index.getZeroBased()));
+        List<Student> studentsToDelete;
+        try {
+            studentsToDelete = indicesToEdit.getStudents(model);
+        } catch (IllegalValueException ive) {
+            throw new CommandException(ive.getMessage());
         }
 
-        studentsToDelete.forEach(model::deleteStudent);
+        model.deleteStudents(studentsToDelete);
 
         if (studentsToDelete.size() == 1) {
             return new CommandResult(String.format(MESSAGE_DELETE_SINGLE_STUDENT_SUCCESS, studentsToDelete.get(0)));
@@ -4,16 +4,17 @@ import static java.util.Objects.requireNonNull;
 import static seedu.studmap.commons.core.Messages.MESSAGE_DUPLICATE_STUDENT;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.function.Function;
+import java.util.Map;
 
-import seedu.studmap.commons.core.Messages;
-import seedu.studmap.commons.core.index.Index;
 import seedu.studmap.commons.core.index.IndexListGenerator;
+import seedu.studmap.commons.exceptions.IllegalValueException;
 import seedu.studmap.logic.commands.commons.StudentEditor;
 import seedu.studmap.logic.commands.exceptions.CommandException;
 import seedu.studmap.model.Model;
 import seedu.studmap.model.student.Student;
+import seedu.studmap.model.student.exceptions.DuplicateStudentException;
 
 /**
  * Abstract class for any command that wants to edit student fields. Provides some basic abstractions to reduce
@@ -24,11 +25,11 @@ import seedu.studmap.model.student.Student;
 public abstract class EditStudentCommand<T extends StudentEditor> extends Command {
 
     protected T studentEditor;
-    protected Function<Model, List<Index>> indicesToEdit;
+    protected IndexListGenerator indicesToEdit;
 
     /**
-     * @param indexListGenerator Function that produces list of indices of students
-     *                           in the filtered student list to edit
+     * @param indexListGenerator Selects the students to edit, by their indices
+     *                           in the filtered student list or by their student IDs
      * @param studentEditor      details to edit the student(s) with
      */
     protected EditStudentCommand(IndexListGenerator indexListGenerator, T studentEditor) {
@@ -60,9 +61,7 @@ public abstract class EditStudentCommand<T extends StudentEditor> extends Comman
      */
     public CommandResult executeNoRefresh(Model model) throws CommandException {
         requireNonNull(model);
-        List<Student> lastShownList = model.getFilteredStudentList();
 
-        ArrayList<Student> studentsToEdit = new ArrayList<>();
         ArrayList<Student> editedStudents = new ArrayList<>();
         ArrayList<Student> uneditedStudents = new ArrayList<>();
 
@@ -70,31 +69,34 @@ public abstract class EditStudentCommand<T extends StudentEditor> extends Comman
             return new CommandResult(getNoEditMessage());
         }
 
-        for (Index index : indicesToEdit.apply(model)) {
-            if (index.getZeroBased() >= lastShownList.size()) {
-                throw new CommandException(Messages.MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX);
-            }
-            studentsToEdit.add(lastShownList.get(index.getZeroBased()));
+        List<Student> studentsToEdit;
+        try {
+            studentsToEdit = indicesToEdit.getStudents(model);
+        } catch (IllegalValueException ive) {
+            throw new CommandException(ive.getMessage());
         }
 
+        Map<Student, Student> replacements = new LinkedHashMap<>();
         for (Student studentToEdit : studentsToEdit) {
 
             StudentEditor.EditResult editResult = studentEditor.editStudent(studentToEdit);
             Student editedStudent = editResult.editedStudent;
 
-            if (!studentToEdit.isSameStudent(editedStudent) && model.hasStudent(editedStudent)) {
-                throw new CommandException(MESSAGE_DUPLICATE_STUDENT);
-            }
-
             if (editResult.isEdited) {
                 editedStudents.add(editedStudent);
-                model.setStudent(studentToEdit, editedStudent);
+                replacements.put(studentToEdit, editedStudent);
             } else {
                 uneditedStudents.add(studentToEdit);
             }
 
         }
 
+        try {
+            model.setStudents(replacements);
+        } catch (DuplicateStudentException dse) {
+            throw new CommandException(MESSAGE_DUPLICATE_STUDENT);
+        }
+
         StringBuilder commandOutput = new StringBuilder();
 
         if (editedStudents.size() == 1) {
@@ -0,0 +1,54 @@
+package seedu.studmap.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.studmap.logic.exports.ExportOptions;
+import seedu.studmap.logic.parser.IndexCommandParser;
+import seedu.studmap.model.Model;
+
+/**
+ * Exports students to a file chosen using browser.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+    public static final String OPTION_CSV = "csv";
+    public static final String OPTION_JSON = "json";
+    public static final String OPTION_RECORDS = "records";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Exports the students in the displayed student list, "
+            + "or those selected by a where clause, to a CSV or JSON file chosen in a browser.\n"
+            + "With " + OPTION_RECORDS + ", their attendance, participation and assignments are exported too.\n"
+            + "Parameters: [" + OPTION_CSV + " | " + OPTION_JSON + "] [" + OPTION_RECORDS + "] ["
+            + IndexCommandParser.WHERE_KEYWORD + " FILTER]\n"
+            + "Example: " + COMMAND_WORD + " " + OPTION_JSON + " " + OPTION_RECORDS + " "
+            + IndexCommandParser.WHERE_KEYWORD + " m/CS2103T";
+
+    public static final String MESSAGE_OPENING_BROWSER = "Opening Browser...";
+
+    private final ExportOptions options;
+
+    public ExportCommand() {
+        this(ExportOptions.CSV);
+    }
+
+    /**
+     * Creates an ExportCommand that exports with the given {@code options}.
+     */
+    public ExportCommand(ExportOptions options) {
+        requireNonNull(options);
+        this.options = options;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        return new CommandResult(MESSAGE_OPENING_BROWSER, options);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ExportCommand // instanceof handles nulls
+                && options.equals(((ExportCommand) other).options)); // state check
+    }
+}
@@ -2,7 +2,9 @@ package seedu.studmap.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.studmap.logic.parser.CliSyntax.PREFIX_ASSIGNMENT;
+import static seedu.studmap.logic.parser.CliSyntax.PREFIX_CLASS;
 import static seedu.studmap.logic.parser.CliSyntax.PREFIX_MODULE;
+import static seedu.studmap.logic.parser.CliSyntax.PREFIX_PARTICIPATION;
 import static seedu.studmap.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.function.Predicate;
@@ -19,14 +21,24 @@ import seedu.studmap.model.student.Student;
 public class FilterCommand extends Command {
 
     public static final String COMMAND_WORD = "filter";
+    public static final String MATCH_ALL = "all";
+    public static final String MATCH_ANY = "any";
+    public static final String NEGATION = "!";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Filters all students with either tag, "
-            + "module or assignment (one only!) that contain any of "
-            + "the specified alphabets (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: [" + PREFIX_TAG + "KEYWORD [MORE_KEYWORDS]...] "
-            + "[" + PREFIX_MODULE + "KEYWORD [MORE_KEYWORDS]...] "
-            + "[" + PREFIX_ASSIGNMENT + "KEYWORD [MORE_KEYWORDS]...]\n"
-            + "Example: " + COMMAND_WORD + " " + PREFIX_TAG + "friends family";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Filters all students that match all (or any) of "
+            + "the criteria given, and displays them as a list with index numbers.\n"
+            + "Tags, modules and assignments match if they contain any of the keywords (case-insensitive). "
+            + "Classes and participation components match students marked present or as having participated. "
+            + "Start a criterion with " + NEGATION + " to match students that do not satisfy it.\n"
+            + "Parameters: [" + MATCH_ALL + "|" + MATCH_ANY + "] "
+            + "[" + PREFIX_TAG + "KEYWORD [MORE_KEYWORDS]...]... "
+            + "[" + PREFIX_MODULE + "KEYWORD [MORE_KEYWORDS]...]... "
+            + "[" + PREFIX_ASSIGNMENT + "KEYWORD [MORE_KEYWORDS]...]... "
+            + "[" + PREFIX_CLASS + "CLASS]... "
+            + "[" + PREFIX_PARTICIPATION + "COMPONENT]...\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_TAG + "friends family\n"
+            + "Example: " + COMMAND_WORD + " " + MATCH_ALL + " " + PREFIX_MODULE + "CS2103T "
+            + PREFIX_CLASS + NEGATION + "T01";
 
     private final Predicate<Student> predicate;
 
@@ -41,8 +53,15 @@ public class FilterCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.filterStudentListWithPredicate(predicate);
+        model.filterStudentListWithPredicate(model.getIndexedPredicate(predicate));
         return new CommandResult(
                 String.format(Messages.MESSAGE_STUDENTS_LISTED_OVERVIEW, model.getFilteredStudentList().size()));
     }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FilterCommand // instanceof handles nulls
+                && predicate.equals(((FilterCommand) other).predicate)); // state check
+    }
 }
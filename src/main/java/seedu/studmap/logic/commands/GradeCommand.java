@@ -2,15 +2,12 @@ package seedu.studmap.logic.commands;
 
 import static seedu.studmap.logic.parser.CliSyntax.PREFIX_ASSIGNMENT;
 
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 import seedu.studmap.commons.core.index.IndexListGenerator;
 import seedu.studmap.logic.commands.commons.StudentEditor;
 import seedu.studmap.model.student.Assignment;
 import seedu.studmap.model.student.Student;
-import seedu.studmap.model.student.StudentData;
 
 /**
  * Specifies the state of assignment for a student.
@@ -110,18 +107,8 @@ public class GradeCommand extends EditStudentCommand<GradeCommand.GradeCommandSt
 
         @Override
         public EditResult editStudent(Student studentToEdit) {
-
-            StudentData studentData = studentToEdit.getStudentData();
-            Set<Assignment> newAssignments = new HashSet<>(studentToEdit.getAssignments());
-
-            if (newAssignments.stream().anyMatch(x -> x.strongEquals(assignment))) {
-                return new EditResult(studentToEdit, false);
-            }
-
-            newAssignments.remove(assignment);
-            newAssignments.add(assignment);
-            studentData.setAssignments(newAssignments);
-            return new EditResult(new Student(studentData), true);
+            Student editedStudent = studentToEdit.withAssignment(assignment);
+            return new EditResult(editedStudent, editedStudent != studentToEdit);
         }
 
         @Override
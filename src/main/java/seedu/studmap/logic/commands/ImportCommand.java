@@ -1,5 +1,8 @@
 package seedu.studmap.logic.commands;
 
+import static java.util.Objects.requireNonNull;
+
+import seedu.studmap.logic.imports.ImportOptions;
 import seedu.studmap.model.Model;
 
 /**
@@ -8,13 +11,44 @@ import seedu.studmap.model.Model;
 public class ImportCommand extends Command {
 
     public static final String COMMAND_WORD = "import";
+    public static final String OPTION_UPSERT = "upsert";
+    public static final String OPTION_DRY_RUN = "dryrun";
+    public static final String OPTION_ROLL_CALL = "rollcall";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Imports students from a CSV file chosen in a "
+            + "browser.\n"
+            + "With " + OPTION_UPSERT + ", rows of existing students update their contact details instead of being "
+            + "reported as duplicates. With " + OPTION_ROLL_CALL + ", the file is a roll call of the attendance, "
+            + "participation and assignments of existing students instead. With " + OPTION_DRY_RUN + ", the changes "
+            + "are only reported.\n"
+            + "Parameters: [" + OPTION_UPSERT + " | " + OPTION_ROLL_CALL + "] [" + OPTION_DRY_RUN + "]\n"
+            + "Example: " + COMMAND_WORD + " " + OPTION_UPSERT + " " + OPTION_DRY_RUN;
+
+    public static final String MESSAGE_OPENING_BROWSER = "Opening Browser...";
+
+    private final ImportOptions options;
 
-    public static final String MESSAGE_USAGE = "Opening Browser...";
+    public ImportCommand() {
+        this(ImportOptions.INSERT);
+    }
 
+    /**
+     * Creates an ImportCommand that imports with the given {@code options}.
+     */
+    public ImportCommand(ImportOptions options) {
+        requireNonNull(options);
+        this.options = options;
+    }
 
     @Override
     public CommandResult execute(Model model) {
-        return new CommandResult(MESSAGE_USAGE, false, true, false);
+        return new CommandResult(MESSAGE_OPENING_BROWSER, options);
     }
 
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportCommand // instanceof handles nulls
+                && options.equals(((ImportCommand) other).options)); // state check
+    }
 }
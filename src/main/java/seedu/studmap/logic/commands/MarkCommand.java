@@ -2,15 +2,12 @@ package seedu.studmap.logic.commands;
 
 import static seedu.studmap.logic.parser.CliSyntax.PREFIX_CLASS;
 
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 import seedu.studmap.commons.core.index.IndexListGenerator;
 import seedu.studmap.logic.commands.commons.StudentEditor;
 import seedu.studmap.model.student.Attendance;
 import seedu.studmap.model.student.Student;
-import seedu.studmap.model.student.StudentData;
 
 /**
  * Marks a student identified using its displayed index from the student map as having attended a class or tutorial.
@@ -91,17 +88,8 @@ public class MarkCommand extends EditStudentCommand<MarkCommand.MarkCommandStude
 
         @Override
         public EditResult editStudent(Student studentToEdit) {
-            StudentData studentData = studentToEdit.getStudentData();
-            Set<Attendance> newAttendances = new HashSet<>(studentToEdit.getAttendances());
-
-            if (newAttendances.stream().anyMatch(x -> x.strongEquals(attendance))) {
-                return new EditResult(studentToEdit, false);
-            }
-
-            newAttendances.remove(attendance);
-            newAttendances.add(attendance);
-            studentData.setAttendances(newAttendances);
-            return new EditResult(new Student(studentData), true);
+            Student editedStudent = studentToEdit.withAttendance(attendance);
+            return new EditResult(editedStudent, editedStudent != studentToEdit);
         }
 
         @Override
@@ -3,15 +3,12 @@ package seedu.studmap.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.studmap.logic.parser.CliSyntax.PREFIX_PARTICIPATION;
 
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 import seedu.studmap.commons.core.index.IndexListGenerator;
 import seedu.studmap.logic.commands.commons.StudentEditor;
 import seedu.studmap.model.student.Participation;
 import seedu.studmap.model.student.Student;
-import seedu.studmap.model.student.StudentData;
 
 /**
  * Records class participation for a student identified using its displayed index from the student map.
@@ -98,17 +95,8 @@ public class ParticipateCommand extends EditStudentCommand<ParticipateCommand.Pa
 
         @Override
         public EditResult editStudent(Student studentToEdit) {
-            StudentData studentData = studentToEdit.getStudentData();
-            Set<Participation> newParticipations = new HashSet<>(studentToEdit.getParticipations());
-
-            if (newParticipations.stream().anyMatch(x -> x.strongEquals(participation))) {
-                return new EditResult(studentToEdit, false);
-            }
-
-            newParticipations.remove(participation);
-            newParticipations.add(participation);
-            studentData.setParticipations(newParticipations);
-            return new EditResult(new Student(studentData), true);
+            Student editedStudent = studentToEdit.withParticipation(participation);
+            return new EditResult(editedStudent, editedStudent != studentToEdit);
         }
 
         @Override
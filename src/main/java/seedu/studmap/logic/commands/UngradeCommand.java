@@ -2,15 +2,12 @@ package seedu.studmap.logic.commands;
 
 import static seedu.studmap.logic.parser.CliSyntax.PREFIX_ASSIGNMENT;
 
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 import seedu.studmap.commons.core.index.IndexListGenerator;
 import seedu.studmap.logic.commands.commons.StudentEditor;
 import seedu.studmap.model.student.Assignment;
 import seedu.studmap.model.student.Student;
-import seedu.studmap.model.student.StudentData;
 
 /**
  * Remove the specified assignment from the student identified using its displayed index.
@@ -100,13 +97,8 @@ public class UngradeCommand extends EditStudentCommand<UngradeCommand.UngradeCom
 
         @Override
         public EditResult editStudent(Student studentToEdit) {
-            StudentData studentData = studentToEdit.getStudentData();
-
-            Set<Assignment> newAssignments = new HashSet<>(studentToEdit.getAssignments());
-            boolean isEdited = newAssignments.remove(assignment);
-            studentData.setAssignments(newAssignments);
-
-            return new EditResult(new Student(studentData), isEdited);
+            Student editedStudent = studentToEdit.withoutAssignment(assignment.identifier);
+            return new EditResult(editedStudent, editedStudent != studentToEdit);
         }
 
         @Override
@@ -2,15 +2,12 @@ package seedu.studmap.logic.commands;
 
 import static seedu.studmap.logic.parser.CliSyntax.PREFIX_CLASS;
 
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 import seedu.studmap.commons.core.index.IndexListGenerator;
 import seedu.studmap.logic.commands.commons.StudentEditor;
 import seedu.studmap.model.student.Attendance;
 import seedu.studmap.model.student.Student;
-import seedu.studmap.model.student.StudentData;
 
 /**
  * Unmarks the specified attendance record from the student identified using its displayed index.
@@ -95,13 +92,8 @@ public class UnmarkCommand extends EditStudentCommand<UnmarkCommand.UnmarkComman
 
         @Override
         public EditResult editStudent(Student studentToEdit) {
-            StudentData studentData = studentToEdit.getStudentData();
-
-            Set<Attendance> newAttendance = new HashSet<>(studentToEdit.getAttendances());
-            boolean isEdited = newAttendance.remove(attendance);
-            studentData.setAttendances(newAttendance);
-
-            return new EditResult(new Student(studentData), isEdited);
+            Student editedStudent = studentToEdit.withoutAttendance(attendance.identifier);
+            return new EditResult(editedStudent, editedStudent != studentToEdit);
         }
 
         @Override
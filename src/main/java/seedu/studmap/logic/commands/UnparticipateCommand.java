@@ -2,15 +2,12 @@ package seedu.studmap.logic.commands;
 
 import static seedu.studmap.logic.parser.CliSyntax.PREFIX_PARTICIPATION;
 
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 import seedu.studmap.commons.core.index.IndexListGenerator;
 import seedu.studmap.logic.commands.commons.StudentEditor;
 import seedu.studmap.model.student.Participation;
 import seedu.studmap.model.student.Student;
-import seedu.studmap.model.student.StudentData;
 
 /**
  * Unmarks the specified participation record from the student identified using its displayed index.
@@ -101,13 +98,8 @@ public class UnparticipateCommand extends EditStudentCommand<UnparticipateComman
 
         @Override
         public EditResult editStudent(Student studentToEdit) {
-            StudentData studentData = studentToEdit.getStudentData();
-
-            Set<Participation> newParticipations = new HashSet<>(studentToEdit.getParticipations());
-            boolean isEdited = newParticipations.remove(participation);
-            studentData.setParticipations(newParticipations);
-
-            return new EditResult(new Student(studentData), isEdited);
+            Student editedStudent = studentToEdit.withoutParticipation(participation.identifier);
+            return new EditResult(editedStudent, editedStudent != studentToEdit);
         }
 
         @Override
@@ -15,7 +15,6 @@ import seedu.studmap.commons.core.index.IndexListGenerator;
 import seedu.studmap.commons.util.CollectionUtil;
 import seedu.studmap.logic.commands.commons.StudentEditor;
 import seedu.studmap.model.student.Student;
-import seedu.studmap.model.student.StudentData;
 import seedu.studmap.model.tag.Tag;
 
 /**
@@ -122,12 +121,8 @@ public class UntagCommand extends EditStudentCommand<UntagCommand.UntagCommandSt
         public EditResult editStudent(Student studentToEdit) {
             assert studentToEdit != null;
 
-            StudentData studentData = studentToEdit.getStudentData();
-            Set<Tag> newTags = studentData.getTags();
-            boolean isEdited = newTags.removeAll(tags);
-            studentData.setTags(newTags);
-
-            return new EditResult(new Student(studentData), isEdited);
+            Student editedStudent = studentToEdit.withoutTags(tags);
+            return new EditResult(editedStudent, editedStudent != studentToEdit);
         }
 
         @Override
@@ -0,0 +1,94 @@
+package seedu.studmap.logic.exports;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes records to a CSV file one field at a time, as described by RFC 4180, so that records are never built as
+ * strings. Records are separated by CRLF line breaks, and fields that contain commas, double quotes or line breaks
+ * are enclosed in double quotes, with their double quotes escaped by another double quote.
+ */
+public class CsvWriter implements Closeable {
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+    private static final String LINE_BREAK = "\r\n";
+
+    private final Writer writer;
+    private boolean isRecordStarted;
+
+    /**
+     * Creates a CsvWriter that writes records to {@code writer}, buffering it if it is not already buffered.
+     */
+    public CsvWriter(Writer writer) {
+        requireNonNull(writer);
+        this.writer = writer instanceof BufferedWriter ? writer : new BufferedWriter(writer);
+    }
+
+    /**
+     * Writes {@code field} as the next field of the current record.
+     *
+     * @throws IOException if the output cannot be written.
+     */
+    public void writeField(String field) throws IOException {
+        requireNonNull(field);
+        if (isRecordStarted) {
+            writer.write(SEPARATOR);
+        }
+        isRecordStarted = true;
+
+        if (!needsQuotes(field)) {
+            writer.write(field);
+            return;
+        }
+        writer.write(QUOTE);
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == QUOTE) {
+                writer.write(QUOTE);
+            }
+            writer.write(c);
+        }
+        writer.write(QUOTE);
+    }
+
+    /**
+     * Writes each of {@code fields} as the next fields of the current record.
+     *
+     * @throws IOException if the output cannot be written.
+     */
+    public void writeFields(String... fields) throws IOException {
+        for (String field : fields) {
+            writeField(field);
+        }
+    }
+
+    /**
+     * Ends the current record, so that the next field starts a new record.
+     *
+     * @throws IOException if the output cannot be written.
+     */
+    public void endRecord() throws IOException {
+        writer.write(LINE_BREAK);
+        isRecordStarted = false;
+    }
+
+    private static boolean needsQuotes(String field) {
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == SEPARATOR || c == QUOTE || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.studmap.logic.exports;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import seedu.studmap.model.student.Student;
+
+/**
+ * The options of an export of students to a file.
+ * Guarantees: immutable.
+ */
+public final class ExportOptions {
+
+    /** Exports the contact details of the students in the filtered student list as CSV. */
+    public static final ExportOptions CSV = new ExportOptions(Format.CSV, false, null);
+
+    private final Format format;
+    private final boolean hasRecords;
+    private final Predicate<Student> selection;
+
+    /**
+     * @param format     Format of the file
+     * @param hasRecords If the attendance, participation and assignments of the students are exported too
+     * @param selection  Predicate of the students to export, such as the filter of a where clause, or null to export
+     *                   the students in the filtered student list
+     */
+    public ExportOptions(Format format, boolean hasRecords, Predicate<Student> selection) {
+        requireNonNull(format);
+        this.format = format;
+        this.hasRecords = hasRecords;
+        this.selection = selection;
+    }
+
+    public Format getFormat() {
+        return format;
+    }
+
+    public boolean hasRecords() {
+        return hasRecords;
+    }
+
+    public Optional<Predicate<Student>> getSelection() {
+        return Optional.ofNullable(selection);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ExportOptions // instanceof handles nulls
+                && format == ((ExportOptions) other).format
+                && hasRecords == ((ExportOptions) other).hasRecords
+                && Objects.equals(selection, ((ExportOptions) other).selection)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(format, hasRecords, selection);
+    }
+
+    /**
+     * Formats of an exported file.
+     */
+    public enum Format {
+        CSV("csv"),
+        JSON("json");
+
+        private final String extension;
+
+        Format(String extension) {
+            this.extension = extension;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+    }
+}
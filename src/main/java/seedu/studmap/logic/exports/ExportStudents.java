@@ -0,0 +1,239 @@
+package seedu.studmap.logic.exports;
+
+import static seedu.studmap.logic.parser.CliSyntax.PREFIX_ASSIGNMENT;
+import static seedu.studmap.logic.parser.CliSyntax.PREFIX_CLASS;
+import static seedu.studmap.logic.parser.CliSyntax.PREFIX_PARTICIPATION;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.studmap.logic.exports.exceptions.ExportException;
+import seedu.studmap.logic.imports.ImportCsv;
+import seedu.studmap.logic.parser.GradeCommandParser;
+import seedu.studmap.logic.parser.MarkCommandParser;
+import seedu.studmap.logic.parser.ParticipateCommandParser;
+import seedu.studmap.model.Model;
+import seedu.studmap.model.student.Assignment;
+import seedu.studmap.model.student.Attendance;
+import seedu.studmap.model.student.IdentifierDictionary;
+import seedu.studmap.model.student.Participation;
+import seedu.studmap.model.student.Student;
+import seedu.studmap.model.tag.Tag;
+
+/**
+ * Exports students from the model to a CSV or JSON file.
+ * <p>
+ * The students are written one field at a time through a buffered writer, so neither the whole file nor the text of
+ * a single student is built in memory. CSV files have the columns of the import template, so that they can be imported
+ * again. With records, they have a column for each class {@code c/CLASS}, participation component
+ * {@code p/COMPONENT} and assignment {@code a/ASSIGNMENT} recorded for any exported student as well, which holds the
+ * status of each student as given to the {@code mark}, {@code participate} and {@code grade} commands; the import
+ * template has no such columns, so these files cannot be imported again. JSON files hold
+ * an array with an object for each student, with the records of each student as objects from identifiers to statuses.
+ */
+public class ExportStudents {
+
+    public static final String FILE_IS_NULL = "File is null!";
+    public static final String FILE_CANNOT_BE_WRITTEN = "File cannot be written!";
+    public static final String EXPORT_SUCCESS = "Exported %d students to %s";
+
+    /**
+     * Executes the export, writing the students selected by {@code options} to {@code file}, in the order of the
+     * student list.
+     *
+     * @param model   Model to export from
+     * @param file    File to write, which is replaced if it exists
+     * @param options Options of the export
+     * @return Message of the number of students exported
+     * @throws ExportException if the file cannot be written
+     */
+    public String execute(Model model, File file, ExportOptions options) throws ExportException {
+        if (file == null) {
+            throw new ExportException(FILE_IS_NULL);
+        }
+
+        List<Student> students = options.getSelection()
+                .map(model::getStudentsMatching)
+                .orElseGet(model::getFilteredStudentList);
+        RecordColumns columns = options.hasRecords() ? new RecordColumns(students) : RecordColumns.NONE;
+        try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+            switch (options.getFormat()) {
+            case CSV:
+                writeCsv(writer, students, columns);
+                break;
+            case JSON:
+                writeJson(writer, students, columns);
+                break;
+            default:
+                throw new AssertionError(options.getFormat());
+            }
+        } catch (IOException e) {
+            throw new ExportException(FILE_CANNOT_BE_WRITTEN, e);
+        }
+        return String.format(EXPORT_SUCCESS, students.size(), file.getName());
+    }
+
+    private static void writeCsv(Writer writer, List<Student> students, RecordColumns columns) throws IOException {
+        CsvWriter csvWriter = new CsvWriter(writer);
+        for (String field : ImportCsv.TEMPLATE_HEADER) {
+            csvWriter.writeField(field);
+        }
+        for (String className : columns.classes) {
+            csvWriter.writeField(PREFIX_CLASS + className);
+        }
+        for (String component : columns.components) {
+            csvWriter.writeField(PREFIX_PARTICIPATION + component);
+        }
+        for (String assignmentName : columns.assignments) {
+            csvWriter.writeField(PREFIX_ASSIGNMENT + assignmentName);
+        }
+        csvWriter.endRecord();
+
+        for (Student student : students) {
+            csvWriter.writeFields(student.getName().fullName, student.getId().value, student.getModule().value,
+                    student.getPhone().value, student.getEmail().value, student.getGitName().value,
+                    student.getTeleHandle().value);
+            for (String className : columns.classes) {
+                csvWriter.writeField(student.getAttendanceStatus(className).map(ExportStudents::toOption).orElse(""));
+            }
+            for (String component : columns.components) {
+                csvWriter.writeField(student.getParticipationStatus(component).map(ExportStudents::toOption)
+                        .orElse(""));
+            }
+            for (String assignmentName : columns.assignments) {
+                csvWriter.writeField(student.getAssignmentStatus(assignmentName).map(ExportStudents::toOption)
+                        .orElse(""));
+            }
+            csvWriter.endRecord();
+        }
+        writer.flush();
+    }
+
+    /**
+     * Writes the students as a JSON array, with the same field names as the data file.
+     */
+    private static void writeJson(Writer writer, List<Student> students, RecordColumns columns) throws IOException {
+        JsonGenerator generator = new JsonFactory().createGenerator(writer).useDefaultPrettyPrinter();
+        generator.writeStartArray();
+        for (Student student : students) {
+            generator.writeStartObject();
+            generator.writeStringField("name", student.getName().fullName);
+            generator.writeStringField("phone", student.getPhone().value);
+            generator.writeStringField("email", student.getEmail().value);
+            generator.writeStringField("module", student.getModule().value);
+            generator.writeStringField("studentID", student.getId().value);
+            generator.writeStringField("gitName", student.getGitName().value);
+            generator.writeStringField("handle", student.getTeleHandle().value);
+            generator.writeArrayFieldStart("tagged");
+            for (Tag tag : student.getTags()) {
+                generator.writeString(tag.tagName);
+            }
+            generator.writeEndArray();
+
+            if (columns != RecordColumns.NONE) {
+                generator.writeObjectFieldStart("attended");
+                for (String className : columns.classes) {
+                    writeStatusField(generator, className,
+                            student.getAttendanceStatus(className).map(ExportStudents::toOption));
+                }
+                generator.writeEndObject();
+                generator.writeObjectFieldStart("participations");
+                for (String component : columns.components) {
+                    writeStatusField(generator, component,
+                            student.getParticipationStatus(component).map(ExportStudents::toOption));
+                }
+                generator.writeEndObject();
+                generator.writeObjectFieldStart("assignments");
+                for (String assignmentName : columns.assignments) {
+                    writeStatusField(generator, assignmentName,
+                            student.getAssignmentStatus(assignmentName).map(ExportStudents::toOption));
+                }
+                generator.writeEndObject();
+            }
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+        generator.flush();
+    }
+
+    private static void writeStatusField(JsonGenerator generator, String identifier, Optional<String> option)
+            throws IOException {
+        if (option.isPresent()) {
+            generator.writeStringField(identifier, option.get());
+        }
+    }
+
+    /**
+     * Returns the option of the {@code mark} command for {@code status}.
+     */
+    private static String toOption(Attendance.Status status) {
+        return status == Attendance.Status.PRESENT ? MarkCommandParser.OPTION_PRESENT : MarkCommandParser.OPTION_ABSENT;
+    }
+
+    /**
+     * Returns the option of the {@code participate} command for {@code status}.
+     */
+    private static String toOption(Participation.Status status) {
+        return status == Participation.Status.PARTICIPATED
+                ? ParticipateCommandParser.OPTION_PARTICIPATED
+                : ParticipateCommandParser.OPTION_NOT_PARTICIPATED;
+    }
+
+    /**
+     * Returns the option of the {@code grade} command for {@code status}.
+     */
+    private static String toOption(Assignment.Status status) {
+        switch (status) {
+        case NEW:
+            return GradeCommandParser.OPTION_ASSIGNMENT_NEW;
+        case RECEIVED:
+            return GradeCommandParser.OPTION_ASSIGNMENT_RECEIVED;
+        case MARKED:
+            return GradeCommandParser.OPTION_ASSIGNMENT_MARKED;
+        default:
+            throw new AssertionError(status);
+        }
+    }
+
+    /**
+     * The classes, participation components and assignments recorded for any of a list of students, each sorted
+     * ignoring case.
+     */
+    private static class RecordColumns {
+        private static final RecordColumns NONE = new RecordColumns(List.of());
+
+        private final Set<String> classes = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        private final Set<String> components = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        private final Set<String> assignments = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+
+        /**
+         * Collects the records of {@code students}. Classes and components are collected as their codes first, so
+         * that each is decoded once however many students recorded it.
+         */
+        RecordColumns(List<Student> students) {
+            BitSet classCodes = new BitSet();
+            BitSet componentCodes = new BitSet();
+            for (Student student : students) {
+                student.getRecordedClassCodes().forEach(classCodes::set);
+                student.getRecordedComponentCodes().forEach(componentCodes::set);
+                for (Assignment assignment : student.getAssignments()) {
+                    assignments.add(assignment.identifier);
+                }
+            }
+            classCodes.stream().forEach(code -> classes.add(IdentifierDictionary.CLASSES.decode(code)));
+            componentCodes.stream().forEach(code ->
+                    components.add(IdentifierDictionary.PARTICIPATION_COMPONENTS.decode(code)));
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package seedu.studmap.logic.exports.exceptions;
+
+import seedu.studmap.logic.exports.ExportStudents;
+
+/**
+ * Represents an error which occurs during execution of an {@link ExportStudents}.
+ */
+public class ExportException extends Exception {
+
+    public ExportException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructs a new {@code ExportException} with the specified detail {@code message} and {@code cause}.
+     */
+    public ExportException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
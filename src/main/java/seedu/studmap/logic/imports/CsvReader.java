@@ -0,0 +1,91 @@
+package seedu.studmap.logic.imports;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the records of a CSV file one at a time, as described by RFC 4180.
+ * Fields are separated by commas and records by line breaks. A field enclosed in double quotes may contain commas,
+ * line breaks and double quotes, where a double quote is escaped by another double quote.
+ */
+public class CsvReader implements Closeable {
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    private final BufferedReader reader;
+
+    /**
+     * Creates a CsvReader that reads records from {@code reader}, buffering it if it is not already buffered.
+     */
+    public CsvReader(Reader reader) {
+        requireNonNull(reader);
+        this.reader = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+    }
+
+    /**
+     * Returns the fields of the next record, or null if there are no more records.
+     * A quoted field that is not closed before the end of the input ends the field and the record.
+     *
+     * @throws IOException if the input cannot be read.
+     */
+    public String[] readRecord() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean isQuoted = false;
+        while (c != -1) {
+            if (isQuoted) {
+                if (c != QUOTE) {
+                    field.append((char) c);
+                } else if (peek() == QUOTE) {
+                    field.append((char) reader.read());
+                } else {
+                    isQuoted = false;
+                }
+            } else if (c == SEPARATOR) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c == '\r') {
+                if (peek() == '\n') {
+                    reader.read();
+                }
+                break;
+            } else if (c == QUOTE && field.length() == 0) {
+                isQuoted = true;
+            } else {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+        fields.add(field.toString());
+        return fields.toArray(new String[0]);
+    }
+
+    /**
+     * Returns the next character without consuming it, or -1 if there are no more characters.
+     */
+    private int peek() throws IOException {
+        reader.mark(1);
+        int c = reader.read();
+        reader.reset();
+        return c;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -1,18 +1,41 @@
 package seedu.studmap.logic.imports;
 
 import java.io.File;
-import java.io.FileNotFoundException;
-import java.util.Scanner;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 
 import seedu.studmap.logic.imports.exceptions.ImportException;
 import seedu.studmap.logic.parser.ParserUtil;
 import seedu.studmap.logic.parser.exceptions.ParseException;
 import seedu.studmap.model.Model;
+import seedu.studmap.model.student.Email;
+import seedu.studmap.model.student.GitName;
+import seedu.studmap.model.student.Phone;
 import seedu.studmap.model.student.Student;
 import seedu.studmap.model.student.StudentData;
+import seedu.studmap.model.student.StudentKey;
+import seedu.studmap.model.student.TeleHandle;
 
 /**
  * Parses CSV file and loads it into the model.
+ * Every row is parsed and validated before any student is added, and the valid students are then added to the model
+ * as a single change. Fields may be quoted as described by RFC 4180.
  */
 public class ImportCsv {
 
@@ -29,17 +52,29 @@ public class ImportCsv {
     public static final String MISSING_COMPULSORY_ATTRIBUTE = "Row %d has missing compulsory attribute %s!\n";
     public static final String DUPLICATE_STUDENT = "Row %d is a duplicate entry!\n";
 
-    public final String delimiter = "\\,";
+    public static final String IMPORT_INTERRUPTED = "Import was interrupted!";
+    public static final String IMPORT_FAILED = "Import failed while parsing the rows: %s";
 
-    public final String[] templateHeader = {
-        "name",
-        "studentid",
-        "module",
-        "phone",
-        "email",
-        "github",
-        "telegram",
-    };
+    public static final String UPDATED_STUDENT = "Row %d updates %s of an existing student\n";
+    public static final String IMPORT_SUMMARY = "%d students added, %d updated and %d unchanged.\n";
+    public static final String DRY_RUN_SUMMARY = "Dry run, nothing was changed: "
+            + "%d students would be added, %d updated and %d unchanged.\n";
+
+    /** The header of the import template, which is also the header of exported CSV files. */
+    public static final List<String> TEMPLATE_HEADER = List.of(
+            "name",
+            "studentid",
+            "module",
+            "phone",
+            "email",
+            "github",
+            "telegram");
+
+    /** The number of rows parsed together by one parsing task. */
+    private static final int CHUNK_SIZE = 1024;
+
+    /** The number of parsed chunks that may wait for the writer, for each parser thread. */
+    private static final int CHUNKS_IN_FLIGHT_PER_PARSER = 2;
 
     public final Attributes[] enumList = {
         Attributes.NAME,
@@ -51,52 +86,198 @@ public class ImportCsv {
         Attributes.TELEGRAM
     };
 
-    private StringBuilder log;
-
-    private int rowNumber;
+    /**
+     * Executes the ImportCSV process with the {@link ImportOptions#INSERT} options.
+     *
+     * @see #execute(Model, File, ImportOptions)
+     */
+    public String execute(Model model, File file) throws ImportException {
+        return execute(model, file, ImportOptions.INSERT);
+    }
 
     /**
      * Executes the ImportCSV process, taking a model and file and updating the model with the imported students.
+     * Rows that are invalid, or that duplicate an earlier row, are skipped and logged. Rows of students already in the
+     * model are logged as duplicates too, unless {@code options} asks for an upsert, where they are joined to those
+     * students by their identity keys and update the contact details given in the row. All the additions and all the
+     * updates are each applied as a single change, unless {@code options} asks for a dry run that only reports them.
+     * <p>
+     * The file is streamed by a reader thread that hands chunks of rows to a pool of parser threads through a bounded
+     * queue, so only a few chunks are in flight at any time. The calling thread is the only writer: it takes the parsed
+     * chunks in file order, checks them for duplicates and adds the valid students to the model in a single change.
      *
-     * @param model Model to update
-     * @param file  CSV file containing import data
-     * @return Error message containing logs during import
+     * @param model   Model to update
+     * @param file    CSV file containing import data
+     * @param options Options of the import
+     * @return Error message containing logs during import, followed by a report of the changes for upserts and dry
+     *         runs
      * @throws ImportException
      */
-    public String execute(Model model, File file) throws ImportException {
+    public String execute(Model model, File file, ImportOptions options) throws ImportException {
+        checkReadableCsv(file);
 
-        if (file == null) {
-            throw new ImportException(FILE_IS_NULL);
+        StringBuilder log = new StringBuilder();
+        List<Student> newStudents = new ArrayList<>();
+        Map<Student, Student> updatedStudents = new LinkedHashMap<>();
+        int unchangedCount = 0;
+        Set<StudentKey> newStudentKeys = new HashSet<>();
+
+        int parserCount = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        ExecutorService parsers = Executors.newFixedThreadPool(parserCount);
+        ExecutorService reader = Executors.newSingleThreadExecutor();
+        BlockingQueue<Future<List<ParsedRow>>> parsedChunks = new ArrayBlockingQueue<>(CHUNKS_IN_FLIGHT_PER_PARSER
+                * parserCount);
+        try (CsvReader csvReader = new CsvReader(Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8))) {
+            String[] header = csvReader.readRecord();
+            if (header == null || !verifyFirstLine(header)) {
+                throw new ImportException(CSV_WRONG_FORMAT);
+            }
+
+            Future<?> reading = reader.submit(() -> readChunks(csvReader, parsers, parsedChunks));
+            for (List<ParsedRow> chunk = parsedChunks.take().get(); !chunk.isEmpty();
+                    chunk = parsedChunks.take().get()) {
+                for (ParsedRow row : chunk) {
+                    if (row.error != null) {
+                        log.append(row.error);
+                        continue;
+                    }
+
+                    Optional<Student> existingStudent = model.findStudent(row.student.getKey());
+                    if (!newStudentKeys.add(row.student.getKey())
+                            || (existingStudent.isPresent() && !options.isUpsert())) {
+                        log.append(String.format(DUPLICATE_STUDENT, row.rowNumber));
+                    } else if (existingStudent.isEmpty()) {
+                        newStudents.add(row.student);
+                    } else {
+                        List<Attributes> changedAttributes = new ArrayList<>();
+                        Student updatedStudent = updateContactDetails(existingStudent.get(), row.student,
+                                changedAttributes);
+                        if (changedAttributes.isEmpty()) {
+                            unchangedCount++;
+                        } else {
+                            updatedStudents.put(existingStudent.get(), updatedStudent);
+                            log.append(String.format(UPDATED_STUDENT, row.rowNumber, changedAttributes.stream()
+                                    .map(Attributes::toString).collect(Collectors.joining(", "))));
+                        }
+                    }
+                }
+            }
+            reading.get();
+        } catch (IOException e) {
+            throw new ImportException(FILE_CANNOT_BE_READ, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw new ImportException(FILE_CANNOT_BE_READ, e.getCause());
+            }
+            throw new ImportException(String.format(IMPORT_FAILED, e.getCause()), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ImportException(IMPORT_INTERRUPTED, e);
+        } finally {
+            reader.shutdownNow();
+            parsers.shutdownNow();
         }
 
-        log = new StringBuilder();
-        if (!file.exists()) {
-            throw new ImportException(FILE_DOES_NOT_EXIST);
-        } else if (!file.canRead()) {
-            throw new ImportException(FILE_CANNOT_BE_READ);
-        } else if (!checkIfCsv(file.getName())) {
-            throw new ImportException(FILE_NOT_CSV);
+        if (!options.isDryRun()) {
+            model.setStudents(updatedStudents);
+            // adding students shows all students, which would clear the filter of an upsert that only updates
+            if (!newStudents.isEmpty()) {
+                model.addStudents(newStudents);
+            }
         }
+        if (options.isUpsert() || options.isDryRun()) {
+            log.append(String.format(options.isDryRun() ? DRY_RUN_SUMMARY : IMPORT_SUMMARY, newStudents.size(),
+                    updatedStudents.size(), unchangedCount));
+        }
+        return log.toString();
+    }
+
+    /**
+     * Returns {@code existingStudent} with the contact details given in {@code importedStudent}, and adds the
+     * attributes that change to {@code changedAttributes}. Contact details left blank in the row keep their values.
+     */
+    private static Student updateContactDetails(Student existingStudent, Student importedStudent,
+            List<Attributes> changedAttributes) {
+        Phone phone = pickValue(existingStudent.getPhone(), importedStudent.getPhone(), Phone.EMPTY,
+                Attributes.PHONE, changedAttributes);
+        Email email = pickValue(existingStudent.getEmail(), importedStudent.getEmail(), Email.EMPTY,
+                Attributes.EMAIL, changedAttributes);
+        GitName gitName = pickValue(existingStudent.getGitName(), importedStudent.getGitName(), GitName.EMPTY,
+                Attributes.GITHUB, changedAttributes);
+        TeleHandle teleHandle = pickValue(existingStudent.getTeleHandle(), importedStudent.getTeleHandle(),
+                TeleHandle.EMPTY, Attributes.TELEGRAM, changedAttributes);
+        return existingStudent.withContactDetails(phone, email, gitName, teleHandle);
+    }
 
-        Scanner sc;
+    /**
+     * Returns {@code importedValue} and adds {@code attribute} to {@code changedAttributes} if it is neither blank
+     * nor equal to {@code existingValue}, or returns {@code existingValue} otherwise.
+     */
+    private static <T> T pickValue(T existingValue, T importedValue, T blankValue, Attributes attribute,
+            List<Attributes> changedAttributes) {
+        if (importedValue.equals(blankValue) || importedValue.equals(existingValue)) {
+            return existingValue;
+        }
+        changedAttributes.add(attribute);
+        return importedValue;
+    }
 
+    /**
+     * Reads the rows after the header from {@code csvReader} in chunks, and puts a future of each chunk parsed by
+     * {@code parsers} in {@code parsedChunks}, blocking while it is full. An empty chunk is put last, even if reading
+     * fails.
+     */
+    private Void readChunks(CsvReader csvReader, ExecutorService parsers,
+            BlockingQueue<Future<List<ParsedRow>>> parsedChunks) throws IOException, InterruptedException {
         try {
-            sc = new Scanner(file);
-        } catch (FileNotFoundException e) {
-            throw new ImportException(FILE_DOES_NOT_EXIST);
+            int firstRowNumber = 2;
+            List<String[]> chunk = new ArrayList<>(CHUNK_SIZE);
+            for (String[] record = csvReader.readRecord(); record != null; record = csvReader.readRecord()) {
+                chunk.add(record);
+                if (chunk.size() == CHUNK_SIZE) {
+                    submitChunk(firstRowNumber, chunk, parsers, parsedChunks);
+                    firstRowNumber += CHUNK_SIZE;
+                    chunk = new ArrayList<>(CHUNK_SIZE);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                submitChunk(firstRowNumber, chunk, parsers, parsedChunks);
+            }
+        } finally {
+            parsedChunks.put(CompletableFuture.completedFuture(List.of()));
         }
+        return null;
+    }
 
-        if (!verifyFirstLine(sc.nextLine().split(delimiter, -1))) {
-            throw new ImportException(CSV_WRONG_FORMAT);
+    private void submitChunk(int firstRowNumber, List<String[]> chunk, ExecutorService parsers,
+            BlockingQueue<Future<List<ParsedRow>>> parsedChunks) throws InterruptedException {
+        parsedChunks.put(parsers.submit(() -> {
+            List<ParsedRow> parsedRows = new ArrayList<>(chunk.size());
+            for (int i = 0; i < chunk.size(); i++) {
+                parsedRows.add(parseRow(firstRowNumber + i, chunk.get(i)));
+            }
+            return parsedRows;
+        }));
+    }
+
+    /**
+     * Checks that {@code file} is an existing, readable CSV file.
+     *
+     * @param file File to check
+     * @throws ImportException if the file cannot be imported
+     */
+    static void checkReadableCsv(File file) throws ImportException {
+        if (file == null) {
+            throw new ImportException(FILE_IS_NULL);
         }
 
-        rowNumber = 2;
-        while (sc.hasNextLine()) {
-            processLine(sc.nextLine().split(delimiter, -1), model);
-            rowNumber++;
+        if (!file.exists()) {
+            throw new ImportException(FILE_DOES_NOT_EXIST);
+        } else if (!file.canRead()) {
+            throw new ImportException(FILE_CANNOT_BE_READ);
+        } else if (!checkIfCsv(file.getName())) {
+            throw new ImportException(FILE_NOT_CSV);
         }
-        sc.close();
-        return log.toString();
     }
 
     /**
@@ -105,7 +286,7 @@ public class ImportCsv {
      * @param filename Filename to check
      * @return Boolean if file is CSV
      */
-    public boolean checkIfCsv(String filename) {
+    public static boolean checkIfCsv(String filename) {
         String[] fileNameSplit = filename.split("\\.");
 
         return fileNameSplit.length != 1 && fileNameSplit[fileNameSplit.length - 1].equals("csv");
@@ -123,7 +304,7 @@ public class ImportCsv {
         }
 
         for (int i = 0; i < 7; i++) {
-            if (!firstLine[i].equals(templateHeader[i])) {
+            if (!firstLine[i].equals(TEMPLATE_HEADER.get(i))) {
                 return false;
             }
         }
@@ -131,16 +312,25 @@ public class ImportCsv {
     }
 
     /**
-     * Processes the CSV line input, creating a Student and updating the Model with it.
+     * Parses the CSV line input into a Student. Safe to call from several threads at once.
      *
+     * @param rowNumber Number of the row in the CSV file, for the log
      * @param inputLine Input from CSV
-     * @param model     Model to update
+     * @return The student of the row, or the log message of a missing compulsory attribute, which may be missing
+     *         from a short row as well as blank or invalid
      */
-    public void processLine(String[] inputLine, Model model) {
+    private ParsedRow parseRow(int rowNumber, String[] inputLine) {
         StudentData studentData = new StudentData();
 
-        for (int i = 0; i < inputLine.length; i++) {
+        for (int i = 0; i < enumList.length; i++) {
             Attributes currentAttribute = enumList[i];
+            if (i >= inputLine.length) {
+                if (isCompulsory(currentAttribute)) {
+                    return new ParsedRow(rowNumber, null, String.format(MISSING_COMPULSORY_ATTRIBUTE,
+                            rowNumber, currentAttribute));
+                }
+                continue;
+            }
             String currentInput = inputLine[i];
             try {
                 switch (currentAttribute) {
@@ -169,21 +359,33 @@ public class ImportCsv {
                     break;
                 }
             } catch (ParseException e) {
-                if (currentAttribute == Attributes.NAME || currentAttribute == Attributes.STUDENTID
-                        || currentAttribute == Attributes.MODULE) {
-                    log.append(String.format(MISSING_COMPULSORY_ATTRIBUTE,
+                if (isCompulsory(currentAttribute)) {
+                    return new ParsedRow(rowNumber, null, String.format(MISSING_COMPULSORY_ATTRIBUTE,
                             rowNumber, currentAttribute));
-                    return;
                 }
             }
         }
 
-        Student newStudent = new Student(studentData);
-        if (model.hasStudent(newStudent)) {
-            log.append(String.format(DUPLICATE_STUDENT, rowNumber));
-            return;
+        return new ParsedRow(rowNumber, new Student(studentData), null);
+    }
+
+    private static boolean isCompulsory(Attributes attribute) {
+        return attribute == Attributes.NAME || attribute == Attributes.STUDENTID || attribute == Attributes.MODULE;
+    }
+
+    /**
+     * The result of parsing a row: either a student, or the log message of why the row has none.
+     */
+    private static class ParsedRow {
+        private final int rowNumber;
+        private final Student student;
+        private final String error;
+
+        ParsedRow(int rowNumber, Student student, String error) {
+            this.rowNumber = rowNumber;
+            this.student = student;
+            this.error = error;
         }
-        model.addStudent(newStudent);
     }
 
     /**
@@ -0,0 +1,62 @@
+package seedu.studmap.logic.imports;
+
+import java.util.Objects;
+
+/**
+ * The options of an import of a CSV file.
+ * Guarantees: immutable.
+ */
+public final class ImportOptions {
+
+    /** Adds the students of new rows, and logs rows of existing students as duplicates. */
+    public static final ImportOptions INSERT = new ImportOptions(false, false);
+
+    private final boolean isUpsert;
+    private final boolean isDryRun;
+    private final boolean isRollCall;
+
+    /**
+     * @param isUpsert If rows of existing students update their contact details instead of being duplicates
+     * @param isDryRun If the import only reports the changes it would make, without making them
+     */
+    public ImportOptions(boolean isUpsert, boolean isDryRun) {
+        this(isUpsert, isDryRun, false);
+    }
+
+    /**
+     * @param isUpsert   If rows of existing students update their contact details instead of being duplicates
+     * @param isDryRun   If the import only reports the changes it would make, without making them
+     * @param isRollCall If the file is a roll call of records of existing students rather than a list of students
+     */
+    public ImportOptions(boolean isUpsert, boolean isDryRun, boolean isRollCall) {
+        this.isUpsert = isUpsert;
+        this.isDryRun = isDryRun;
+        this.isRollCall = isRollCall;
+    }
+
+    public boolean isUpsert() {
+        return isUpsert;
+    }
+
+    public boolean isDryRun() {
+        return isDryRun;
+    }
+
+    public boolean isRollCall() {
+        return isRollCall;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportOptions // instanceof handles nulls
+                && isUpsert == ((ImportOptions) other).isUpsert
+                && isDryRun == ((ImportOptions) other).isDryRun
+                && isRollCall == ((ImportOptions) other).isRollCall); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(isUpsert, isDryRun, isRollCall);
+    }
+}
@@ -0,0 +1,265 @@
+package seedu.studmap.logic.imports;
+
+import static seedu.studmap.logic.parser.CliSyntax.PREFIX_ASSIGNMENT;
+import static seedu.studmap.logic.parser.CliSyntax.PREFIX_CLASS;
+import static seedu.studmap.logic.parser.CliSyntax.PREFIX_PARTICIPATION;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.studmap.logic.imports.exceptions.ImportException;
+import seedu.studmap.logic.parser.GradeCommandParser;
+import seedu.studmap.logic.parser.MarkCommandParser;
+import seedu.studmap.logic.parser.ParserUtil;
+import seedu.studmap.logic.parser.ParticipateCommandParser;
+import seedu.studmap.logic.parser.exceptions.ParseException;
+import seedu.studmap.model.Model;
+import seedu.studmap.model.student.Assignment;
+import seedu.studmap.model.student.Attendance;
+import seedu.studmap.model.student.Module;
+import seedu.studmap.model.student.Participation;
+import seedu.studmap.model.student.Student;
+import seedu.studmap.model.student.StudentID;
+
+/**
+ * Parses a roll call CSV file of the attendance, participation and assignments of existing students and records them
+ * in the model.
+ * <p>
+ * The header starts with {@code studentid}, optionally followed by {@code module}, and every other column is a class
+ * {@code c/CLASS}, a participation component {@code p/COMPONENT} or an assignment {@code a/ASSIGNMENT}. Each row
+ * holds a student ID and the status of the student in each column, as given to the {@code mark}, {@code participate}
+ * and {@code grade} commands. Blank cells leave the records of the student unchanged.
+ */
+public class ImportRollCall {
+
+    public static final String ROLL_CALL_WRONG_FORMAT = "Roll call header is wrongly formatted! "
+            + "It must start with studentid, optionally followed by module, and name a class as "
+            + PREFIX_CLASS + "CLASS, a participation component as " + PREFIX_PARTICIPATION + "COMPONENT or an "
+            + "assignment as " + PREFIX_ASSIGNMENT + "ASSIGNMENT in every other column.";
+
+    public static final String INVALID_STUDENT = "Row %d has an invalid student ID or module!\n";
+    public static final String UNKNOWN_STUDENT = "Row %d matches no student!\n";
+    public static final String INVALID_STATUS = "Row %d has invalid status \"%s\" for %s!\n";
+
+    public static final String ROLL_CALL_SUMMARY = "%d students updated and %d unchanged.\n";
+    public static final String DRY_RUN_SUMMARY = "Dry run, nothing was changed: "
+            + "%d students would be updated and %d unchanged.\n";
+
+    public static final String HEADER_STUDENT_ID = "studentid";
+    public static final String HEADER_MODULE = "module";
+
+    /**
+     * Executes the roll call import, recording the statuses in {@code file} for the students with each student ID.
+     * Students are found through the index of student IDs of the model, so each row is resolved in constant time
+     * whatever the number of students. The file is streamed one row at a time, and the new records of each student are
+     * collected until the end of the file and then applied together, so that a student is rebuilt at most once however
+     * many rows and columns the roll call has. A student whose records end up as they were, for example because a later
+     * row reverts an earlier one, is left unchanged. All the updated students replace the old ones in a single change,
+     * unless {@code options} asks for a dry run that only reports them.
+     *
+     * @param model   Model to update
+     * @param file    Roll call CSV file
+     * @param options Options of the import
+     * @return Log of the rows and cells that were skipped, followed by a report of the changes
+     * @throws ImportException if the file cannot be read, or its header is wrongly formatted
+     */
+    public String execute(Model model, File file, ImportOptions options) throws ImportException {
+        ImportCsv.checkReadableCsv(file);
+
+        StringBuilder log = new StringBuilder();
+        Map<Student, NewRecords> newRecords = new LinkedHashMap<>();
+        try (CsvReader csvReader = new CsvReader(Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8))) {
+            String[] header = csvReader.readRecord();
+            if (header == null) {
+                throw new ImportException(ROLL_CALL_WRONG_FORMAT);
+            }
+            Columns columns = new Columns(header);
+
+            int rowNumber = 1;
+            for (String[] record = csvReader.readRecord(); record != null; record = csvReader.readRecord()) {
+                rowNumber++;
+                List<Student> students;
+                try {
+                    students = findStudents(model, columns, record);
+                } catch (ParseException e) {
+                    log.append(String.format(INVALID_STUDENT, rowNumber));
+                    continue;
+                }
+                if (students.isEmpty()) {
+                    log.append(String.format(UNKNOWN_STUDENT, rowNumber));
+                    continue;
+                }
+
+                List<Attendance> attendances = columns.attendanceColumns.parseRecords(rowNumber, record, log);
+                List<Participation> participations =
+                        columns.participationColumns.parseRecords(rowNumber, record, log);
+                List<Assignment> assignments = columns.assignmentColumns.parseRecords(rowNumber, record, log);
+                for (Student student : students) {
+                    newRecords.computeIfAbsent(student, unused -> new NewRecords())
+                            .addAll(attendances, participations, assignments);
+                }
+            }
+        } catch (IOException e) {
+            throw new ImportException(ImportCsv.FILE_CANNOT_BE_READ, e);
+        }
+
+        // withRecords returns the student itself when all the new records are already recorded
+        Map<Student, Student> editedStudents = new LinkedHashMap<>();
+        newRecords.forEach((student, records) -> {
+            Student editedStudent = student.withRecords(records.attendances.values(),
+                    records.participations.values(), records.assignments.values());
+            if (editedStudent != student) {
+                editedStudents.put(student, editedStudent);
+            }
+        });
+        if (!options.isDryRun()) {
+            model.setStudents(editedStudents);
+        }
+        log.append(String.format(options.isDryRun() ? DRY_RUN_SUMMARY : ROLL_CALL_SUMMARY, editedStudents.size(),
+                newRecords.size() - editedStudents.size()));
+        return log.toString();
+    }
+
+    /**
+     * Returns the students with the student ID of {@code record}, in its module if the roll call has modules.
+     *
+     * @throws ParseException if the student ID or module is invalid
+     */
+    private static List<Student> findStudents(Model model, Columns columns, String[] record) throws ParseException {
+        StudentID id = ParserUtil.parseId(record[0]);
+        List<Student> students = model.getStudentsWithId(id);
+        if (!columns.hasModule) {
+            return students;
+        }
+
+        Module module = ParserUtil.parseModule(record.length > 1 ? record[1] : "");
+        List<Student> studentsInModule = new ArrayList<>(1);
+        for (Student student : students) {
+            if (student.getModule().equals(module)) {
+                studentsInModule.add(student);
+            }
+        }
+        return studentsInModule;
+    }
+
+    /**
+     * The latest record that the rows of a roll call give a student for each class, participation component and
+     * assignment, so that later rows take precedence over earlier ones.
+     */
+    private static class NewRecords {
+        private final Map<Attendance, Attendance> attendances = new LinkedHashMap<>();
+        private final Map<Participation, Participation> participations = new LinkedHashMap<>();
+        private final Map<Assignment, Assignment> assignments = new LinkedHashMap<>();
+
+        void addAll(List<Attendance> rowAttendances, List<Participation> rowParticipations,
+                List<Assignment> rowAssignments) {
+            // records are equal when they have the same identifier, so each put replaces any earlier status
+            rowAttendances.forEach(attendance -> attendances.put(attendance, attendance));
+            rowParticipations.forEach(participation -> participations.put(participation, participation));
+            rowAssignments.forEach(assignment -> assignments.put(assignment, assignment));
+        }
+    }
+
+    /**
+     * The record columns of a roll call, grouped by the type of their records.
+     */
+    private static class Columns {
+        private final boolean hasModule;
+        private final RecordColumns<Attendance> attendanceColumns = new RecordColumns<>();
+        private final RecordColumns<Participation> participationColumns = new RecordColumns<>();
+        private final RecordColumns<Assignment> assignmentColumns = new RecordColumns<>();
+
+        /**
+         * Parses the columns named in {@code header}.
+         *
+         * @throws ImportException if the header is wrongly formatted
+         */
+        Columns(String[] header) throws ImportException {
+            if (header.length < 2 || !header[0].trim().equalsIgnoreCase(HEADER_STUDENT_ID)) {
+                throw new ImportException(ROLL_CALL_WRONG_FORMAT);
+            }
+            hasModule = header[1].trim().equalsIgnoreCase(HEADER_MODULE);
+
+            try {
+                for (int i = hasModule ? 2 : 1; i < header.length; i++) {
+                    String columnName = header[i].trim();
+                    if (columnName.startsWith(PREFIX_CLASS.getPrefix())) {
+                        String className = ParserUtil.parseClassName(removePrefix(columnName));
+                        attendanceColumns.add(i, columnName, Map.of(
+                                MarkCommandParser.OPTION_PRESENT, Attendance.of(className, Attendance.Status.PRESENT),
+                                MarkCommandParser.OPTION_ABSENT, Attendance.of(className, Attendance.Status.ABSENT)));
+                    } else if (columnName.startsWith(PREFIX_PARTICIPATION.getPrefix())) {
+                        String component = ParserUtil.parseParticipationComponent(removePrefix(columnName));
+                        participationColumns.add(i, columnName, Map.of(
+                                ParticipateCommandParser.OPTION_PARTICIPATED,
+                                Participation.of(component, Participation.Status.PARTICIPATED),
+                                ParticipateCommandParser.OPTION_NOT_PARTICIPATED,
+                                Participation.of(component, Participation.Status.NOT_PARTICIPATED)));
+                    } else if (columnName.startsWith(PREFIX_ASSIGNMENT.getPrefix())) {
+                        String assignmentName = ParserUtil.parseAssignmentName(removePrefix(columnName));
+                        assignmentColumns.add(i, columnName, Map.of(
+                                GradeCommandParser.OPTION_ASSIGNMENT_NEW,
+                                Assignment.of(assignmentName, Assignment.Status.NEW),
+                                GradeCommandParser.OPTION_ASSIGNMENT_RECEIVED,
+                                Assignment.of(assignmentName, Assignment.Status.RECEIVED),
+                                GradeCommandParser.OPTION_ASSIGNMENT_MARKED,
+                                Assignment.of(assignmentName, Assignment.Status.MARKED)));
+                    } else {
+                        throw new ImportException(ROLL_CALL_WRONG_FORMAT);
+                    }
+                }
+            } catch (ParseException e) {
+                throw new ImportException(ROLL_CALL_WRONG_FORMAT, e);
+            }
+        }
+
+        private static String removePrefix(String columnName) {
+            return columnName.substring(columnName.indexOf('/') + 1);
+        }
+    }
+
+    /**
+     * The columns of a roll call that hold one type of record, each with the record of every status it may hold.
+     * The records are created once for each column, so that parsing a cell only looks up its status.
+     */
+    private static class RecordColumns<A> {
+        private final List<Integer> positions = new ArrayList<>();
+        private final List<String> names = new ArrayList<>();
+        private final List<Map<String, A>> recordsByStatus = new ArrayList<>();
+
+        void add(int position, String name, Map<String, A> records) {
+            positions.add(position);
+            names.add(name);
+            recordsByStatus.add(records);
+        }
+
+        /**
+         * Returns the records of the non-blank cells of {@code record} in these columns, and logs the cells with
+         * invalid statuses to {@code log}.
+         */
+        List<A> parseRecords(int rowNumber, String[] record, StringBuilder log) {
+            List<A> records = new ArrayList<>(positions.size());
+            for (int i = 0; i < positions.size(); i++) {
+                int position = positions.get(i);
+                String status = position < record.length ? record[position].trim() : "";
+                if (status.isEmpty()) {
+                    continue;
+                }
+
+                A parsedRecord = recordsByStatus.get(i).get(status.toLowerCase());
+                if (parsedRecord == null) {
+                    log.append(String.format(INVALID_STATUS, rowNumber, status, names.get(i)));
+                } else {
+                    records.add(parsedRecord);
+                }
+            }
+            return records;
+        }
+    }
+}
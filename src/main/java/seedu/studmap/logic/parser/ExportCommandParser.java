@@ -0,0 +1,60 @@
+package seedu.studmap.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.studmap.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.regex.Matcher;
+
+import seedu.studmap.logic.commands.ExportCommand;
+import seedu.studmap.logic.exports.ExportOptions;
+import seedu.studmap.logic.exports.ExportOptions.Format;
+import seedu.studmap.logic.parser.exceptions.ParseException;
+import seedu.studmap.model.student.StudentFilter;
+
+/**
+ * Parses input arguments and creates a new ExportCommand object
+ */
+public class ExportCommandParser implements Parser<ExportCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportCommand
+     * and returns an ExportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public ExportCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        Matcher whereClause = IndexCommandParser.WHERE_CLAUSE_FORMAT.matcher(args);
+        boolean hasWhereClause = whereClause.matches();
+        String optionArgs = hasWhereClause ? whereClause.group("commandArgs") : args;
+
+        Format format = null;
+        boolean hasRecords = false;
+        String trimmedArgs = optionArgs.trim();
+        if (!trimmedArgs.isEmpty()) {
+            for (String option : trimmedArgs.split("\\s+")) {
+                if (option.equalsIgnoreCase(ExportCommand.OPTION_CSV) && format == null) {
+                    format = Format.CSV;
+                } else if (option.equalsIgnoreCase(ExportCommand.OPTION_JSON) && format == null) {
+                    format = Format.JSON;
+                } else if (option.equalsIgnoreCase(ExportCommand.OPTION_RECORDS) && !hasRecords) {
+                    hasRecords = true;
+                } else {
+                    throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                            ExportCommand.MESSAGE_USAGE));
+                }
+            }
+        }
+
+        StudentFilter selection = null;
+        if (hasWhereClause) {
+            try {
+                selection = FilterCommandParser.parseStudentFilter(whereClause.group("filterArgs"));
+            } catch (ParseException pe) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE),
+                        pe);
+            }
+        }
+        return new ExportCommand(new ExportOptions(format == null ? Format.CSV : format, hasRecords, selection));
+    }
+}
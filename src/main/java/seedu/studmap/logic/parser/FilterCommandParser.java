@@ -1,16 +1,29 @@
 package seedu.studmap.logic.parser;
 
 import static seedu.studmap.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.studmap.logic.commands.FilterCommand.MATCH_ALL;
+import static seedu.studmap.logic.commands.FilterCommand.MATCH_ANY;
+import static seedu.studmap.logic.commands.FilterCommand.NEGATION;
 import static seedu.studmap.logic.parser.CliSyntax.PREFIX_ASSIGNMENT;
+import static seedu.studmap.logic.parser.CliSyntax.PREFIX_CLASS;
 import static seedu.studmap.logic.parser.CliSyntax.PREFIX_MODULE;
+import static seedu.studmap.logic.parser.CliSyntax.PREFIX_PARTICIPATION;
 import static seedu.studmap.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 import seedu.studmap.logic.commands.FilterCommand;
 import seedu.studmap.logic.parser.exceptions.ParseException;
 import seedu.studmap.model.student.AssignmentContainsKeywordsPredicate;
+import seedu.studmap.model.student.ClassAttendedPredicate;
+import seedu.studmap.model.student.ComponentParticipatedPredicate;
 import seedu.studmap.model.student.ModuleContainsKeywordsPredicate;
+import seedu.studmap.model.student.Student;
+import seedu.studmap.model.student.StudentFilter;
 import seedu.studmap.model.student.TagContainsKeywordsPredicate;
 
 
@@ -19,6 +32,10 @@ import seedu.studmap.model.student.TagContainsKeywordsPredicate;
  */
 public class FilterCommandParser implements Parser<FilterCommand> {
 
+    /** Prefixes of the criteria of a filter. */
+    public static final List<Prefix> CRITERION_PREFIXES = List.of(PREFIX_MODULE, PREFIX_ASSIGNMENT, PREFIX_TAG,
+            PREFIX_CLASS, PREFIX_PARTICIPATION);
+
     /**
      * Parses the given {@code String} of arguments in the context of the FilterCommand
      * and returns a FilterCommand object for execution.
@@ -27,29 +44,65 @@ public class FilterCommandParser implements Parser<FilterCommand> {
      */
     @Override
     public FilterCommand parse(String args) throws ParseException {
-        String trimmedArgs = args.trim();
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_MODULE, PREFIX_ASSIGNMENT, PREFIX_TAG);
-        if (trimmedArgs.length() == 2 || trimmedArgs.isEmpty()) {
+        return new FilterCommand(parseStudentFilter(args));
+    }
+
+    /**
+     * Parses the given {@code String} of filter criteria, such as those of a FilterCommand or of a where clause,
+     * and returns the StudentFilter they describe.
+     *
+     * @throws ParseException if the criteria do not conform the expected format
+     */
+    public static StudentFilter parseStudentFilter(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, CRITERION_PREFIXES.toArray(new Prefix[0]));
+
+        boolean isMatchAll;
+        switch (argMultimap.getPreamble().toLowerCase()) {
+        case "":
+        case MATCH_ALL:
+            isMatchAll = true;
+            break;
+        case MATCH_ANY:
+            isMatchAll = false;
+            break;
+        default:
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
         }
 
-        String[] nameKeywords;
+        List<StudentFilter.Criterion> criteria = new ArrayList<>();
+        addCriteria(criteria, argMultimap, PREFIX_TAG,
+                value -> new TagContainsKeywordsPredicate(Arrays.asList(value.split("\\s+"))));
+        addCriteria(criteria, argMultimap, PREFIX_MODULE,
+                value -> new ModuleContainsKeywordsPredicate(Arrays.asList(value.split("\\s+"))));
+        addCriteria(criteria, argMultimap, PREFIX_ASSIGNMENT,
+                value -> new AssignmentContainsKeywordsPredicate(Arrays.asList(value.split("\\s+"))));
+        addCriteria(criteria, argMultimap, PREFIX_CLASS, ClassAttendedPredicate::new);
+        addCriteria(criteria, argMultimap, PREFIX_PARTICIPATION, ComponentParticipatedPredicate::new);
 
-        if (argMultimap.getValue(PREFIX_ASSIGNMENT).isPresent()) {
-            nameKeywords = argMultimap.getValue(PREFIX_ASSIGNMENT).get().split("\\s+");
-            return new FilterCommand(new AssignmentContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
-        }
-        if (argMultimap.getValue(PREFIX_MODULE).isPresent()) {
-            nameKeywords = argMultimap.getValue(PREFIX_MODULE).get().split("\\s+");
-            return new FilterCommand(new ModuleContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
-        }
-        if (argMultimap.getValue(PREFIX_TAG).isPresent()) {
-            nameKeywords = argMultimap.getValue(PREFIX_TAG).get().split("\\s+");
-            return new FilterCommand(new TagContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
-        } else {
+        if (criteria.isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
         }
+        return new StudentFilter(criteria, isMatchAll);
+    }
+
+    /**
+     * Adds a criterion to {@code criteria} for every value of {@code prefix} in {@code argMultimap}.
+     * A value starting with {@link FilterCommand#NEGATION} is parsed into a negated criterion.
+     *
+     * @throws ParseException if a value has no keywords
+     */
+    private static void addCriteria(List<StudentFilter.Criterion> criteria, ArgumentMultimap argMultimap,
+            Prefix prefix, Function<String, Predicate<Student>> toPredicate) throws ParseException {
+        for (String value : argMultimap.getAllValues(prefix)) {
+            boolean isNegated = value.startsWith(NEGATION);
+            String keywords = (isNegated ? value.substring(NEGATION.length()) : value).trim();
+            if (keywords.isEmpty()) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+            }
+            criteria.add(new StudentFilter.Criterion(toPredicate.apply(keywords), isNegated));
+        }
     }
 }
@@ -0,0 +1,48 @@
+package seedu.studmap.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.studmap.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.studmap.logic.commands.ImportCommand;
+import seedu.studmap.logic.imports.ImportOptions;
+import seedu.studmap.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ImportCommand object
+ */
+public class ImportCommandParser implements Parser<ImportCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ImportCommand
+     * and returns an ImportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public ImportCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        boolean isUpsert = false;
+        boolean isDryRun = false;
+        boolean isRollCall = false;
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new ImportCommand();
+        }
+
+        for (String option : trimmedArgs.split("\\s+")) {
+            if (option.equalsIgnoreCase(ImportCommand.OPTION_UPSERT) && !isUpsert) {
+                isUpsert = true;
+            } else if (option.equalsIgnoreCase(ImportCommand.OPTION_DRY_RUN) && !isDryRun) {
+                isDryRun = true;
+            } else if (option.equalsIgnoreCase(ImportCommand.OPTION_ROLL_CALL) && !isRollCall) {
+                isRollCall = true;
+            } else {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+            }
+        }
+
+        if (isUpsert && isRollCall) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+        }
+        return new ImportCommand(new ImportOptions(isUpsert, isDryRun, isRollCall));
+    }
+}
@@ -5,14 +5,21 @@ import static seedu.studmap.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT
 import static seedu.studmap.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.studmap.logic.parser.ParserUtil.separatePreamble;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import seedu.studmap.commons.core.index.AllIndexGenerator;
-import seedu.studmap.commons.core.index.Index;
 import seedu.studmap.commons.core.index.IndexListGenerator;
+import seedu.studmap.commons.core.index.PredicateListGenerator;
 import seedu.studmap.commons.core.index.SingleIndexGenerator;
+import seedu.studmap.commons.core.index.StudentIdListGenerator;
 import seedu.studmap.logic.commands.Command;
+import seedu.studmap.logic.commands.FilterCommand;
 import seedu.studmap.logic.parser.exceptions.ParseException;
+import seedu.studmap.model.student.StudentID;
 
 /**
  * An interface that provides a framework for a parser for commands that will need to manipulate
@@ -24,6 +31,24 @@ public interface IndexCommandParser<T extends Command> extends Parser<T> {
 
     String ALL_INDEX = "all";
 
+    /** Marks a preamble as a list of student IDs, such as {@code #E1234567,E7654321}, instead of an index. */
+    String STUDENT_ID_MARKER = "#";
+
+    /** Starts a where clause, which selects the students that match a filter instead of an index. */
+    String WHERE_KEYWORD = "where";
+
+    /**
+     * Splits arguments into those of the command and those of a trailing where clause. The where keyword only starts
+     * a clause when a filter criterion, such as {@code m/CS2103T}, follows it, so that values such as names may still
+     * contain the word.
+     */
+    Pattern WHERE_CLAUSE_FORMAT = Pattern.compile("(?<commandArgs>.*?)\\s+" + WHERE_KEYWORD
+            + "(?<filterArgs>\\s+(?:(?:" + FilterCommand.MATCH_ALL + "|" + FilterCommand.MATCH_ANY + ")\\s+)?(?:"
+            + FilterCommandParser.CRITERION_PREFIXES.stream()
+                    .map(prefix -> Pattern.quote(prefix.getPrefix()))
+                    .collect(Collectors.joining("|"))
+            + ").*)", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+
     /**
      * Returns an array of prefixes that will tokenize the arguments string.
      */
@@ -37,7 +62,14 @@ public interface IndexCommandParser<T extends Command> extends Parser<T> {
     /**
      * Parses given arguments and returns a command.
      * The default implementation will look for an index (and in the case of the keyword 'all',
-     * it returns a function that produces all the available indices.
+     * it returns a function that produces all the available indices). Indices and ranges of indices may be listed,
+     * separated by commas, such as {@code 1-200,305,410-420}. An index that starts with
+     * {@link #STUDENT_ID_MARKER} is instead a list of student IDs separated by commas, which selects the students
+     * with those IDs whether or not they are displayed.
+     * <p>
+     * Arguments may end with a where clause, such as {@code where m/CS2103T c/T01}, that takes the criteria of the
+     * {@code filter} command. The clause replaces the index, and selects the matching students whether or not they
+     * are displayed.
      *
      * @param args Command arguments
      * @return Command for execution
@@ -50,9 +82,14 @@ public interface IndexCommandParser<T extends Command> extends Parser<T> {
         requireNonNull(prefixes);
         requireAllNonNull(List.of(prefixes));
 
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, prefixes);
+        // The where keyword takes the place of the index, so that the rest of the preamble is parsed as usual
+        Matcher whereClause = WHERE_CLAUSE_FORMAT.matcher(args);
+        boolean hasWhereClause = whereClause.matches();
+        String commandArgs = hasWhereClause ? " " + WHERE_KEYWORD + " " + whereClause.group("commandArgs") : args;
+
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(commandArgs, prefixes);
 
-        Index index;
+        IndexListGenerator indexListGenerator;
         try {
             String preamble = argMultimap.getPreamble();
             String[] preambleArgs = separatePreamble(preamble);
@@ -63,13 +100,42 @@ public interface IndexCommandParser<T extends Command> extends Parser<T> {
                 return getIndexCommand(argMultimap, new AllIndexGenerator());
             }
 
-            index = ParserUtil.parseIndex(preambleArgs[0]);
+            if (hasWhereClause) {
+                indexListGenerator = new PredicateListGenerator(
+                        FilterCommandParser.parseStudentFilter(whereClause.group("filterArgs")));
+            } else if (preambleArgs[0].startsWith(STUDENT_ID_MARKER)) {
+                String studentIds = preambleArgs[0].substring(STUDENT_ID_MARKER.length());
+                indexListGenerator = new StudentIdListGenerator(parseStudentIds(studentIds));
+            } else if (preambleArgs[0].contains(ParserUtil.INDEX_LIST_SEPARATOR)
+                    || preambleArgs[0].contains(ParserUtil.INDEX_RANGE_SEPARATOR)) {
+                indexListGenerator = ParserUtil.parseIndexRanges(preambleArgs[0]);
+            } else {
+                indexListGenerator = new SingleIndexGenerator(ParserUtil.parseIndex(preambleArgs[0]));
+            }
 
         } catch (ParseException pe) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, getUsageMessage()), pe);
         }
 
-        return getIndexCommand(argMultimap, new SingleIndexGenerator(index));
+        return getIndexCommand(argMultimap, indexListGenerator);
+    }
+
+    /**
+     * Parses a list of student IDs separated by commas.
+     *
+     * @throws ParseException if there are no student IDs.
+     */
+    private static List<StudentID> parseStudentIds(String studentIds) throws ParseException {
+        List<StudentID> ids = new ArrayList<>();
+        for (String id : studentIds.split(",")) {
+            if (!id.isEmpty()) {
+                ids.add(ParserUtil.parseId(id));
+            }
+        }
+        if (ids.isEmpty()) {
+            throw new ParseException(StudentID.MESSAGE_CONSTRAINTS);
+        }
+        return ids;
     }
 
     /**
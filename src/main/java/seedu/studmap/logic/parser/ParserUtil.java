@@ -9,6 +9,7 @@ import java.util.HashSet;
 import java.util.Set;
 
 import seedu.studmap.commons.core.index.Index;
+import seedu.studmap.commons.core.index.IndexRangeGenerator;
 import seedu.studmap.commons.util.StringUtil;
 import seedu.studmap.logic.parser.exceptions.ParseException;
 import seedu.studmap.model.order.Order;
@@ -30,6 +31,10 @@ import seedu.studmap.model.tag.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_INDEX_RANGE =
+            "Index range is not of the form FIRST-LAST, where FIRST is not greater than LAST.";
+    public static final String INDEX_LIST_SEPARATOR = ",";
+    public static final String INDEX_RANGE_SEPARATOR = "-";
     public static final String RECEIVED = "Received: ";
 
     public static String getInvalidMessage(String invalidMessage, String receivedInput) {
@@ -49,6 +54,35 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses {@code indexRanges}, a list of one-based indices and ranges of indices separated by commas such as
+     * {@code 1-200,305,410-420}, into an {@code IndexRangeGenerator} and returns it. Leading and trailing whitespaces
+     * will be trimmed.
+     * @throws ParseException if an index or a range of indices is invalid.
+     */
+    public static IndexRangeGenerator parseIndexRanges(String indexRanges) throws ParseException {
+        requireNonNull(indexRanges);
+        IndexRangeGenerator.Builder builder = new IndexRangeGenerator.Builder();
+        for (String range : indexRanges.trim().split(INDEX_LIST_SEPARATOR, -1)) {
+            String[] ends = range.split(INDEX_RANGE_SEPARATOR, -1);
+            if (ends.length == 1) {
+                builder.addIndex(parseIndex(ends[0]));
+                continue;
+            }
+
+            if (ends.length != 2) {
+                throw new ParseException(MESSAGE_INVALID_INDEX_RANGE);
+            }
+            Index first = parseIndex(ends[0]);
+            Index last = parseIndex(ends[1]);
+            if (first.getZeroBased() > last.getZeroBased()) {
+                throw new ParseException(MESSAGE_INVALID_INDEX_RANGE);
+            }
+            builder.addRange(first, last);
+        }
+        return builder.build();
+    }
+
     /**
      * Separates {@code preamble} into an array of strings for processing.
      */
@@ -83,7 +117,7 @@ public class ParserUtil {
         if (!Phone.isValidPhone(trimmedPhone)) {
             throw new ParseException(getInvalidMessage(Phone.MESSAGE_CONSTRAINTS, phone));
         }
-        return new Phone(trimmedPhone);
+        return Phone.of(trimmedPhone);
     }
 
     /**
@@ -98,7 +132,7 @@ public class ParserUtil {
         if (!Email.isValidEmail(trimmedEmail)) {
             throw new ParseException(getInvalidMessage(Email.MESSAGE_CONSTRAINTS, email));
         }
-        return new Email(trimmedEmail);
+        return Email.of(trimmedEmail);
     }
 
     /**
@@ -113,7 +147,7 @@ public class ParserUtil {
         if (!Module.isValidModule(trimmedModule)) {
             throw new ParseException(getInvalidMessage(Module.MESSAGE_CONSTRAINTS, module));
         }
-        return new Module(trimmedModule);
+        return Module.of(trimmedModule);
     }
 
     /**
@@ -143,7 +177,7 @@ public class ParserUtil {
         if (!GitName.isValidGitName(trimmedGit)) {
             throw new ParseException(getInvalidMessage(GitName.MESSAGE_CONSTRAINTS, gitName));
         }
-        return new GitName(trimmedGit);
+        return GitName.of(trimmedGit);
     }
 
     /**
@@ -158,7 +192,7 @@ public class ParserUtil {
         if (!TeleHandle.isValidTeleHandle(trimmedHandle)) {
             throw new ParseException(getInvalidMessage(TeleHandle.MESSAGE_CONSTRAINTS, handle));
         }
-        return new TeleHandle(trimmedHandle);
+        return TeleHandle.of(trimmedHandle);
     }
 
     /**
@@ -173,7 +207,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(getInvalidMessage(Tag.MESSAGE_CONSTRAINTS, tag));
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
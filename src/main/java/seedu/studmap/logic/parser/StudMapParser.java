@@ -12,6 +12,7 @@ import seedu.studmap.logic.commands.Command;
 import seedu.studmap.logic.commands.DeleteCommand;
 import seedu.studmap.logic.commands.EditCommand;
 import seedu.studmap.logic.commands.ExitCommand;
+import seedu.studmap.logic.commands.ExportCommand;
 import seedu.studmap.logic.commands.FilterCommand;
 import seedu.studmap.logic.commands.FindCommand;
 import seedu.studmap.logic.commands.GradeCommand;
@@ -77,7 +78,10 @@ public class StudMapParser {
             return new ExitCommand();
 
         case ImportCommand.COMMAND_WORD:
-            return new ImportCommand();
+            return new ImportCommandParser().parse(arguments);
+
+        case ExportCommand.COMMAND_WORD:
+            return new ExportCommandParser().parse(arguments);
 
         case TagCommand.COMMAND_WORD:
             return new TagCommandParser().parse(arguments);
@@ -1,8 +1,11 @@
 package seedu.studmap.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -10,6 +13,8 @@ import seedu.studmap.commons.core.GuiSettings;
 import seedu.studmap.commons.core.index.Index;
 import seedu.studmap.model.order.Order;
 import seedu.studmap.model.student.Student;
+import seedu.studmap.model.student.StudentID;
+import seedu.studmap.model.student.StudentKey;
 
 /**
  * The API of the Model component.
@@ -65,18 +70,35 @@ public interface Model {
      */
     boolean hasStudent(Student student);
 
+    /**
+     * Returns the student with the identity {@code key} in the student map, if there is one.
+     */
+    Optional<Student> findStudent(StudentKey key);
+
     /**
      * Deletes the given student.
      * The student must exist in the student map.
      */
     void deleteStudent(Student target);
 
+    /**
+     * Deletes all of the given students as a single change to the student list.
+     * Every student in {@code targets} must exist in the student map.
+     */
+    void deleteStudents(Collection<Student> targets);
+
     /**
      * Adds the given student.
      * {@code student} must not already exist in the student map.
      */
     void addStudent(Student student);
 
+    /**
+     * Adds all of the given students as a single change, and shows all students once they are added.
+     * None of {@code students} may already exist in the student map, and no two of them may have the same identity.
+     */
+    void addStudents(Collection<Student> students);
+
     /**
      * Replaces the given student {@code target} with {@code editedStudent}.
      * {@code target} must exist in the student map.
@@ -85,6 +107,26 @@ public interface Model {
      */
     void setStudent(Student target, Student editedStudent);
 
+    /**
+     * Replaces every student that is a key of {@code replacements} with the student it maps to.
+     * All replacements are applied together as a single change to the student list.
+     * Every key must exist in the student map.
+     * No two students in the resulting student map may have the same identity.
+     */
+    void setStudents(Map<Student, Student> replacements);
+
+    /**
+     * Returns the students with the student ID {@code id}, whether or not they are in the filtered student list.
+     * There may be more than one, for a student who takes more than one module.
+     */
+    List<Student> getStudentsWithId(StudentID id);
+
+    /**
+     * Returns the students that satisfy {@code predicate}, whether or not they are in the filtered student list.
+     * The filtered student list is not changed.
+     */
+    List<Student> getStudentsMatching(Predicate<Student> predicate);
+
     /**
      * Returns an unmodifiable view of the filtered student list
      */
@@ -103,10 +145,18 @@ public interface Model {
     void updateFilteredStudentList(Predicate<Student> predicate);
 
     /**
-     * Sorts filteredList by specified comparator and order.
+     * Sorts the filtered student list by specified comparator and order.
+     * Only the view is sorted; the order of students in the student map is unchanged. The sort order is kept
+     * as students are added, edited or filtered, until another sort order is given.
      */
     void sortFilteredStudentList(Comparator<Student> comparator, Order order);
 
+    /**
+     * Returns a predicate that accepts the same students as {@code predicate}, answered from the indexes of the
+     * student map where there is one for {@code predicate}.
+     */
+    Predicate<Student> getIndexedPredicate(Predicate<Student> predicate);
+
 
     void filterStudentListWithPredicate(Predicate<Student> predicate);
 
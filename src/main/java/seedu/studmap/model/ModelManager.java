@@ -4,8 +4,11 @@ import static java.util.Objects.requireNonNull;
 import static seedu.studmap.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -17,7 +20,10 @@ import seedu.studmap.commons.core.GuiSettings;
 import seedu.studmap.commons.core.LogsCenter;
 import seedu.studmap.commons.core.index.Index;
 import seedu.studmap.model.order.Order;
+import seedu.studmap.model.student.SortedStudentList;
 import seedu.studmap.model.student.Student;
+import seedu.studmap.model.student.StudentID;
+import seedu.studmap.model.student.StudentKey;
 
 /**
  * Represents the in-memory model of the student map data.
@@ -28,6 +34,7 @@ public class ModelManager implements Model {
     private final StudMap studMap;
     private final UserPrefs userPrefs;
     private final FilteredList<Student> filteredStudents;
+    private final SortedStudentList sortedStudents;
 
     /**
      * Initializes a ModelManager with the given studMap and userPrefs.
@@ -40,6 +47,7 @@ public class ModelManager implements Model {
         this.studMap = new StudMap(studMap);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredStudents = new FilteredList<>(this.studMap.getStudentList());
+        sortedStudents = new SortedStudentList(filteredStudents);
     }
 
     public ModelManager() {
@@ -99,17 +107,36 @@ public class ModelManager implements Model {
         return studMap.hasStudent(student);
     }
 
+    @Override
+    public Optional<Student> findStudent(StudentKey key) {
+        requireNonNull(key);
+        return studMap.findStudent(key);
+    }
+
     @Override
     public void deleteStudent(Student target) {
         studMap.removeStudent(target);
     }
 
+    @Override
+    public void deleteStudents(Collection<Student> targets) {
+        requireNonNull(targets);
+        studMap.removeStudents(targets);
+    }
+
     @Override
     public void addStudent(Student student) {
         studMap.addStudent(student);
         updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
     }
 
+    @Override
+    public void addStudents(Collection<Student> students) {
+        requireNonNull(students);
+        studMap.addStudents(students);
+        updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
+    }
+
     @Override
     public void setStudent(Student target, Student editedStudent) {
         requireAllNonNull(target, editedStudent);
@@ -117,20 +144,46 @@ public class ModelManager implements Model {
         studMap.setStudent(target, editedStudent);
     }
 
+    @Override
+    public void setStudents(Map<Student, Student> replacements) {
+        requireNonNull(replacements);
+
+        studMap.setStudents(replacements);
+    }
+
     //=========== Filtered Student List Accessors =============================================================
 
+    @Override
+    public List<Student> getStudentsWithId(StudentID id) {
+        requireNonNull(id);
+        return studMap.getStudentsWithId(id);
+    }
+
+    @Override
+    public List<Student> getStudentsMatching(Predicate<Student> predicate) {
+        requireNonNull(predicate);
+        return studMap.getStudentsMatching(predicate);
+    }
+
     /**
      * Returns an unmodifiable view of the list of {@code Student} backed by the internal list of
-     * {@code versionedStudMap}
+     * {@code versionedStudMap}, filtered and then sorted in the active sort order.
      */
     @Override
     public ObservableList<Student> getFilteredStudentList() {
-        return filteredStudents;
+        return sortedStudents;
     }
 
     @Override
     public void sortFilteredStudentList(Comparator<Student> comparator, Order order) {
-        this.studMap.sort(comparator, order);
+        requireAllNonNull(comparator, order);
+        sortedStudents.setComparator(comparator, order.isDescending());
+    }
+
+    @Override
+    public Predicate<Student> getIndexedPredicate(Predicate<Student> predicate) {
+        requireNonNull(predicate);
+        return studMap.getIndexedPredicate(predicate);
     }
 
     @Override
@@ -161,11 +214,11 @@ public class ModelManager implements Model {
         ModelManager other = (ModelManager) obj;
         return studMap.equals(other.studMap)
                 && userPrefs.equals(other.userPrefs)
-                && filteredStudents.equals(other.filteredStudents);
+                && sortedStudents.equals(other.sortedStudents);
     }
 
     public List<Index> getFilteredStudentIndices() {
-        return IntStream.range(0, filteredStudents.size()).mapToObj(Index::fromZeroBased).collect(Collectors.toList());
+        return IntStream.range(0, sortedStudents.size()).mapToObj(Index::fromZeroBased).collect(Collectors.toList());
     }
 
 }
@@ -14,4 +14,11 @@ public interface ReadOnlyStudMap {
      */
     ObservableList<Student> getStudentList();
 
+    /**
+     * Returns the number of changes made to the students list so far.
+     * The count only grows, and grows only when the students list changes, so two equal counts taken from the same
+     * student map mean that nothing was changed between them.
+     */
+    long getModificationCount();
+
 }
@@ -2,13 +2,19 @@ package seedu.studmap.model;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Comparator;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
-import seedu.studmap.model.order.Order;
 import seedu.studmap.model.student.Student;
+import seedu.studmap.model.student.StudentID;
+import seedu.studmap.model.student.StudentKey;
 import seedu.studmap.model.student.UniqueStudentList;
+import seedu.studmap.model.student.exceptions.DuplicateStudentException;
 
 /**
  * Wraps all data at the studmap-book level
@@ -17,6 +23,8 @@ import seedu.studmap.model.student.UniqueStudentList;
 public class StudMap implements ReadOnlyStudMap {
 
     private final UniqueStudentList students;
+    private final StudentSearchIndex searchIndex;
+    private long modificationCount;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -27,6 +35,9 @@ public class StudMap implements ReadOnlyStudMap {
      */
     {
         students = new UniqueStudentList();
+        searchIndex = new StudentSearchIndex(students);
+        students.asUnmodifiableObservableList().addListener((ListChangeListener<Student>) change ->
+                modificationCount++);
     }
 
     public StudMap() {
@@ -45,17 +56,35 @@ public class StudMap implements ReadOnlyStudMap {
     /**
      * Replaces the contents of the student list with {@code students}.
      * {@code students} must not contain duplicate students.
+     * This is the bulk-load path: the list and its indexes are built in a single pass over {@code students}.
+     *
+     * @throws DuplicateStudentException describing every duplicate pair if {@code students} is not unique.
      */
     public void setStudents(List<Student> students) {
         this.students.setStudents(students);
     }
 
+    /**
+     * Replaces every student that is a key of {@code replacements} with the student it maps to, as a single change.
+     * Every key must exist in the student map.
+     * No two students in the resulting student map may have the same identity.
+     */
+    public void setStudents(Map<Student, Student> replacements) {
+        requireNonNull(replacements);
+        students.setStudents(replacements);
+    }
+
     /**
      * Resets the existing data of this {@code StudMap} with {@code newData}.
+     * Data from another {@code StudMap} is known to be unique and is copied without validating it again.
      */
     public void resetData(ReadOnlyStudMap newData) {
         requireNonNull(newData);
 
+        if (newData instanceof StudMap) {
+            students.setStudents(((StudMap) newData).students);
+            return;
+        }
         setStudents(newData.getStudentList());
     }
 
@@ -69,6 +98,14 @@ public class StudMap implements ReadOnlyStudMap {
         return students.contains(student);
     }
 
+    /**
+     * Returns the student with the identity {@code key} in the student map, if there is one.
+     */
+    public Optional<Student> findStudent(StudentKey key) {
+        requireNonNull(key);
+        return students.find(key);
+    }
+
     /**
      * Adds a student to the student map.
      * The student must not already exist in the student map.
@@ -77,6 +114,15 @@ public class StudMap implements ReadOnlyStudMap {
         students.add(p);
     }
 
+    /**
+     * Adds all of {@code students} to the student map as a single change.
+     * None of them may already exist in the student map, and no two of them may have the same identity.
+     */
+    public void addStudents(Collection<Student> students) {
+        requireNonNull(students);
+        this.students.addAll(students);
+    }
+
     /**
      * Replaces the given student {@code target} in the list with {@code editedStudent}.
      * {@code target} must exist in the student map.
@@ -96,6 +142,48 @@ public class StudMap implements ReadOnlyStudMap {
         students.remove(key);
     }
 
+    /**
+     * Removes all of {@code keys} from this {@code StudMap} as a single change.
+     * Every student in {@code keys} must exist in the student map.
+     */
+    public void removeStudents(Collection<Student> keys) {
+        requireNonNull(keys);
+        students.removeAll(keys);
+    }
+
+    //// index lookups
+
+    /**
+     * Returns a predicate that accepts the same students as {@code predicate}.
+     * Name, tag, module and assignment keyword predicates, and class attendance and participation predicates, are
+     * answered by lookups in the indexes of this student map, instead of by scanning the fields of every student.
+     * A {@code StudentFilter} is resolved into a bitset over the students' positions, so that testing a student
+     * takes constant time. The returned predicates stay correct as students are added, edited and removed.
+     * Any other predicate is returned unchanged.
+     */
+    public Predicate<Student> getIndexedPredicate(Predicate<Student> predicate) {
+        requireNonNull(predicate);
+        return searchIndex.getIndexedPredicate(predicate);
+    }
+
+    /**
+     * Returns the students that satisfy {@code predicate}, in the order of the student list, whether or not they are
+     * shown. Predicates that the student map indexes, and filters of them, are answered from the indexes.
+     */
+    public List<Student> getStudentsMatching(Predicate<Student> predicate) {
+        requireNonNull(predicate);
+        return searchIndex.getStudentsMatching(predicate);
+    }
+
+    /**
+     * Returns the students with the student ID {@code id}, in the order of the student list, whether or not they are
+     * shown. The students are looked up in an index of the student IDs, without scanning the student list.
+     */
+    public List<Student> getStudentsWithId(StudentID id) {
+        requireNonNull(id);
+        return searchIndex.getStudentsWithId(id);
+    }
+
     //// util methods
 
     @Override
@@ -109,10 +197,14 @@ public class StudMap implements ReadOnlyStudMap {
         return students.asUnmodifiableObservableList();
     }
 
-    /** Sort the studmap by the given comparator and order */
-    public void sort(Comparator<Student> comparator, Order order) {
-        boolean isDescending = order.isDescending();
-        students.sort(comparator, isDescending);
+    /**
+     * {@inheritDoc}
+     * The count is driven by the change events of the students list, so edits that change nothing, such as a failed
+     * command or a bulk edit of no students, are not counted.
+     */
+    @Override
+    public long getModificationCount() {
+        return modificationCount;
     }
 
     @Override
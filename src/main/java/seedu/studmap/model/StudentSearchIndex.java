@@ -0,0 +1,294 @@
+package seedu.studmap.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.studmap.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.studmap.commons.util.StringUtil;
+import seedu.studmap.model.student.AssignmentContainsKeywordsPredicate;
+import seedu.studmap.model.student.ClassAttendedPredicate;
+import seedu.studmap.model.student.ComponentParticipatedPredicate;
+import seedu.studmap.model.student.IdentifierDictionary;
+import seedu.studmap.model.student.ModuleContainsKeywordsPredicate;
+import seedu.studmap.model.student.NameContainsKeywordsPredicate;
+import seedu.studmap.model.student.Student;
+import seedu.studmap.model.student.StudentFilter;
+import seedu.studmap.model.student.StudentID;
+import seedu.studmap.model.student.StudentIndex;
+import seedu.studmap.model.student.TagContainsKeywordsPredicate;
+import seedu.studmap.model.student.UniqueStudentList;
+
+/**
+ * The secondary indexes of the students of a {@code StudMap}, which answer searches and filters without scanning
+ * every student.
+ * <p>
+ * Students are indexed by the case-folded words of their names, tags, modules and assignments, by the classes they
+ * attended and the components they participated in, and by their student IDs. A {@code StudentFilter} is resolved
+ * into a bitset over the positions of the students, with one bitset per criterion combined using word-level bit
+ * operations.
+ */
+class StudentSearchIndex {
+
+    private final UniqueStudentList students;
+    private final ObservableList<Student> studentList;
+    private final StudentIndex<String> nameIndex;
+    private final StudentIndex<String> tagIndex;
+    private final StudentIndex<String> moduleIndex;
+    private final StudentIndex<String> assignmentIndex;
+    private final StudentIndex<Integer> attendedClassIndex;
+    private final StudentIndex<Integer> participatedComponentIndex;
+    private final StudentIndex<String> idIndex;
+
+    /** Incremented on every change to the student list, so that results computed over positions can be checked. */
+    private long version;
+
+    /**
+     * Creates the indexes of {@code students} and keeps them updated as {@code students} changes.
+     */
+    StudentSearchIndex(UniqueStudentList students) {
+        requireNonNull(students);
+        this.students = students;
+        this.studentList = students.asUnmodifiableObservableList();
+        nameIndex = new StudentIndex<>(studentList, student -> getWords(student.getName().fullName));
+        tagIndex = new StudentIndex<>(studentList, student -> getWords(student.getTags(), tag -> tag.tagName));
+        moduleIndex = new StudentIndex<>(studentList, student -> getWords(student.getModule().value));
+        assignmentIndex = new StudentIndex<>(studentList,
+                student -> getWords(student.getAssignments(), assignment -> assignment.identifier));
+        attendedClassIndex = new StudentIndex<>(studentList, Student::getAttendedClassCodes);
+        participatedComponentIndex = new StudentIndex<>(studentList, Student::getParticipatedComponentCodes);
+        idIndex = new StudentIndex<>(studentList, student -> List.of(student.getId().value));
+        studentList.addListener((ListChangeListener<Student>) change -> version++);
+    }
+
+    /**
+     * Returns a predicate that accepts the same students as {@code predicate}.
+     *
+     * @see StudMap#getIndexedPredicate(Predicate)
+     */
+    Predicate<Student> getIndexedPredicate(Predicate<Student> predicate) {
+        requireNonNull(predicate);
+        if (predicate instanceof StudentFilter) {
+            return new BitSetPredicate((StudentFilter) predicate);
+        }
+        IndexLookup<?> lookup = getLookup(predicate);
+        return lookup == null ? predicate : lookup;
+    }
+
+    /**
+     * Returns the students with the student ID {@code id}, in the order of the student list.
+     *
+     * @see StudMap#getStudentsWithId(StudentID)
+     */
+    List<Student> getStudentsWithId(StudentID id) {
+        requireNonNull(id);
+        List<Student> matches = new ArrayList<>(idIndex.get(id.value));
+        if (matches.size() > 1) {
+            matches.sort(Comparator.comparingInt(students::positionOf));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the students that satisfy {@code predicate}, in the order of the student list.
+     *
+     * @see StudMap#getStudentsMatching(Predicate)
+     */
+    List<Student> getStudentsMatching(Predicate<Student> predicate) {
+        requireNonNull(predicate);
+        BitSet positions;
+        if (predicate instanceof StudentFilter) {
+            positions = resolve((StudentFilter) predicate);
+        } else {
+            positions = resolve(new StudentFilter.Criterion(predicate, false));
+        }
+
+        List<Student> matches = new ArrayList<>(positions.cardinality());
+        positions.stream().forEach(position -> matches.add(studentList.get(position)));
+        return matches;
+    }
+
+    /**
+     * Returns the index lookup that answers {@code predicate}, or null if no index can answer it.
+     */
+    private IndexLookup<?> getLookup(Predicate<Student> predicate) {
+        if (predicate instanceof NameContainsKeywordsPredicate) {
+            return new IndexLookup<>(nameIndex,
+                    foldKeywords(((NameContainsKeywordsPredicate) predicate).getKeywords()));
+        } else if (predicate instanceof TagContainsKeywordsPredicate) {
+            return new IndexLookup<>(tagIndex, foldKeywords(((TagContainsKeywordsPredicate) predicate).getKeywords()));
+        } else if (predicate instanceof ModuleContainsKeywordsPredicate) {
+            return new IndexLookup<>(moduleIndex,
+                    foldKeywords(((ModuleContainsKeywordsPredicate) predicate).getKeywords()));
+        } else if (predicate instanceof AssignmentContainsKeywordsPredicate) {
+            return new IndexLookup<>(assignmentIndex,
+                    foldKeywords(((AssignmentContainsKeywordsPredicate) predicate).getKeywords()));
+        } else if (predicate instanceof ClassAttendedPredicate) {
+            String className = ((ClassAttendedPredicate) predicate).getClassName();
+            return new IndexLookup<>(attendedClassIndex, findCodes(IdentifierDictionary.CLASSES, className));
+        } else if (predicate instanceof ComponentParticipatedPredicate) {
+            String component = ((ComponentParticipatedPredicate) predicate).getComponent();
+            return new IndexLookup<>(participatedComponentIndex,
+                    findCodes(IdentifierDictionary.PARTICIPATION_COMPONENTS, component));
+        }
+        return null;
+    }
+
+    /**
+     * Returns the positions of the students that pass {@code filter} as a bitset.
+     */
+    private BitSet resolve(StudentFilter filter) {
+        List<StudentFilter.Criterion> criteria = filter.getCriteria();
+        BitSet result = resolve(criteria.get(0));
+        for (int i = 1; i < criteria.size(); i++) {
+            BitSet positions = resolve(criteria.get(i));
+            if (filter.isMatchAll()) {
+                result.and(positions);
+            } else {
+                result.or(positions);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the positions of the students that satisfy {@code criterion} as a bitset.
+     */
+    private BitSet resolve(StudentFilter.Criterion criterion) {
+        BitSet positions = new BitSet(studentList.size());
+        IndexLookup<?> lookup = getLookup(criterion.getPredicate());
+        if (lookup != null) {
+            lookup.markPositions(positions);
+        } else {
+            for (int i = 0; i < studentList.size(); i++) {
+                if (criterion.getPredicate().test(studentList.get(i))) {
+                    positions.set(i);
+                }
+            }
+        }
+        if (criterion.isNegated()) {
+            positions.flip(0, studentList.size());
+        }
+        return positions;
+    }
+
+    private static List<String> foldKeywords(Collection<String> keywords) {
+        requireAllNonNull(keywords);
+        return keywords.stream()
+                .map(keyword -> StringUtil.foldCase(keyword.trim()))
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the code of {@code identifier} in {@code dictionary}, or no codes if no student has ever recorded it.
+     */
+    private static List<Integer> findCodes(IdentifierDictionary dictionary, String identifier) {
+        int code = dictionary.find(identifier.trim());
+        return code == -1 ? List.of() : List.of(code);
+    }
+
+    /**
+     * Returns the case-folded words of {@code text}, which match keywords as in
+     * {@link StringUtil#containsWordIgnoreCase(String, String)}.
+     */
+    private static List<String> getWords(String text) {
+        return Arrays.asList(StringUtil.foldCase(text).split("\\s+"));
+    }
+
+    private static <T> List<String> getWords(Set<T> values, Function<T, String> textOf) {
+        List<String> words = new ArrayList<>();
+        for (T value : values) {
+            words.addAll(getWords(textOf.apply(value)));
+        }
+        return words;
+    }
+
+    /**
+     * Tests if a student is indexed in an index under any of a list of keys, such as case-folded words.
+     * The lookup always reflects the current contents of the index.
+     */
+    private class IndexLookup<K> implements Predicate<Student> {
+
+        private final StudentIndex<K> index;
+        private final List<K> keys;
+
+        IndexLookup(StudentIndex<K> index, List<K> keys) {
+            this.index = index;
+            this.keys = keys;
+        }
+
+        @Override
+        public boolean test(Student student) {
+            for (K key : keys) {
+                if (index.contains(key, student)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Sets the position of every student that passes this lookup in {@code positions}.
+         */
+        void markPositions(BitSet positions) {
+            for (K key : keys) {
+                for (Student student : index.get(key)) {
+                    positions.set(students.positionOf(student));
+                }
+            }
+        }
+    }
+
+    /**
+     * A predicate that answers a {@code StudentFilter} from a bitset over student positions, computed once when the
+     * predicate is created. Testing a student takes constant time while the student list is unchanged. After the list
+     * changes, students are tested against the indexes criterion by criterion instead.
+     */
+    private class BitSetPredicate implements Predicate<Student> {
+
+        private final BitSet matches;
+        private final long matchesVersion;
+        private final Predicate<Student> fallback;
+
+        /** The position after the last student tested, since filtered lists test students in list order. */
+        private int nextPosition;
+
+        BitSetPredicate(StudentFilter filter) {
+            this.matches = resolve(filter);
+            this.matchesVersion = version;
+
+            List<StudentFilter.Criterion> indexedCriteria = new ArrayList<>();
+            for (StudentFilter.Criterion criterion : filter.getCriteria()) {
+                indexedCriteria.add(new StudentFilter.Criterion(
+                        getIndexedPredicate(criterion.getPredicate()), criterion.isNegated()));
+            }
+            this.fallback = new StudentFilter(indexedCriteria, filter.isMatchAll());
+        }
+
+        @Override
+        public boolean test(Student student) {
+            if (matchesVersion == version) {
+                int position = nextPosition < studentList.size() && studentList.get(nextPosition) == student
+                        ? nextPosition
+                        : students.positionOf(student);
+                if (position != -1) {
+                    nextPosition = position + 1;
+                    return matches.get(position);
+                }
+            }
+            return fallback.test(student);
+        }
+    }
+}
@@ -6,6 +6,7 @@ import java.util.Comparator;
 
 import seedu.studmap.model.attribute.exceptions.AttributeNotFoundException;
 import seedu.studmap.model.order.Order;
+import seedu.studmap.model.student.SortKeyComparator;
 import seedu.studmap.model.student.Student;
 
 /**
@@ -38,96 +39,54 @@ public abstract class Attribute {
         switch (attributeTypeEnum) {
 
         case NAME:
-            if (order.isDescending()) {
-                resultComparator = Comparator.comparing(Student::getCmpNameString,
-                        Comparator.nullsFirst(String::compareToIgnoreCase));
-            } else {
-                resultComparator = Comparator.comparing(Student::getCmpNameString,
-                        Comparator.nullsLast(String::compareToIgnoreCase));
-            }
+            resultComparator = SortKeyComparator.comparingText(Student::getCmpNameString, order.isDescending());
             break;
 
         case PHONE:
-            if (order.isDescending()) {
-                resultComparator = Comparator.comparing(Student::getCmpPhoneString,
-                        Comparator.nullsFirst(String::compareToIgnoreCase));
-            } else {
-                resultComparator = Comparator.comparing(Student::getCmpPhoneString,
-                        Comparator.nullsLast(String::compareToIgnoreCase));
-            }
+            resultComparator = SortKeyComparator.comparingText(Student::getCmpPhoneString, order.isDescending());
             break;
 
         case MODULE:
-            if (order.isDescending()) {
-                resultComparator = Comparator.comparing(Student::getCmpModuleString,
-                        Comparator.nullsFirst(String::compareToIgnoreCase));
-            } else {
-                resultComparator = Comparator.comparing(Student::getCmpModuleString,
-                        Comparator.nullsLast(String::compareToIgnoreCase));
-            }
+            resultComparator = SortKeyComparator.comparingText(Student::getCmpModuleString, order.isDescending());
             break;
 
         case ID:
-            if (order.isDescending()) {
-                resultComparator = Comparator.comparing(Student::getCmpIdString,
-                        Comparator.nullsFirst(String::compareToIgnoreCase));
-            } else {
-                resultComparator = Comparator.comparing(Student::getCmpIdString,
-                        Comparator.nullsLast(String::compareToIgnoreCase));
-            }
+            resultComparator = SortKeyComparator.comparingText(Student::getCmpIdString, order.isDescending());
             break;
 
         case GIT:
-            if (order.isDescending()) {
-                resultComparator = Comparator.comparing(Student::getCmpGitString,
-                        Comparator.nullsFirst(String::compareToIgnoreCase));
-            } else {
-                resultComparator = Comparator.comparing(Student::getCmpGitString,
-                        Comparator.nullsLast(String::compareToIgnoreCase));
-            }
+            resultComparator = SortKeyComparator.comparingText(Student::getCmpGitString, order.isDescending());
             break;
 
         case HANDLE:
-            if (order.isDescending()) {
-                resultComparator = Comparator.comparing(Student::getCmpHandleString,
-                        Comparator.nullsFirst(String::compareToIgnoreCase));
-            } else {
-                resultComparator = Comparator.comparing(Student::getCmpHandleString,
-                        Comparator.nullsLast(String::compareToIgnoreCase));
-            }
+            resultComparator = SortKeyComparator.comparingText(Student::getCmpHandleString, order.isDescending());
             break;
 
         case EMAIL:
-            if (order.isDescending()) {
-                resultComparator = Comparator.comparing(Student::getCmpEmailString,
-                        Comparator.nullsFirst(String::compareToIgnoreCase));
-            } else {
-                resultComparator = Comparator.comparing(Student::getCmpEmailString,
-                        Comparator.nullsLast(String::compareToIgnoreCase));
-            }
+            resultComparator = SortKeyComparator.comparingText(Student::getCmpEmailString, order.isDescending());
             break;
 
         case ATTENDANCE:
             if (order.isDescending()) {
-                resultComparator = Comparator.comparing(Student::getAttendancePercentageForDsc);
+                resultComparator = SortKeyComparator.comparingNumber(Student::getAttendancePercentageForDsc);
             } else {
-                resultComparator = Comparator.comparing(Student::getAttendancePercentageForAsc);
+                resultComparator = SortKeyComparator.comparingNumber(Student::getAttendancePercentageForAsc);
             }
             break;
 
         case ASSIGNMENT:
             if (order.isDescending()) {
-                resultComparator = Comparator.comparing(Student::getAssignmentMarkedCountForDsc);
+                resultComparator = SortKeyComparator.comparingNumber(Student::getAssignmentMarkedCountForDsc);
             } else {
-                resultComparator = Comparator.comparing(Student::getAssignmentMarkedCountForAsc);
+                resultComparator = SortKeyComparator.comparingNumber(Student::getAssignmentMarkedCountForAsc);
             }
             break;
 
         case PARTICIPATION:
             if (order.isDescending()) {
-                resultComparator = Comparator.comparing(Student::getParticipationPercentageForDsc);
+                resultComparator = SortKeyComparator.comparingNumber(Student::getParticipationPercentageForDsc);
             } else {
-                resultComparator = Comparator.comparing(Student::getParticipationPercentageForAsc);
+                resultComparator = SortKeyComparator.comparingNumber(Student::getParticipationPercentageForAsc);
             }
             break;
 
@@ -1,6 +1,12 @@
 package seedu.studmap.model.student;
 
+import static seedu.studmap.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Map;
+
 import seedu.studmap.commons.exceptions.IllegalValueException;
+import seedu.studmap.commons.util.Interner;
+import seedu.studmap.commons.util.StringUtil;
 
 /**
  * Represents an Assignment object in StudMap.
@@ -18,6 +24,11 @@ public class Assignment extends MultiStateAttribute<String, Assignment.Status> {
             + ASSIGNMENT_NEW + ", " + ASSIGNMENT_RECEIVED + " or " + ASSIGNMENT_MARKED + ".";
 
 
+    private static final Map<Status, Interner<String, Assignment>> POOLS = createPools(Status.class, Assignment::new);
+
+    /** The identifier with its case folded once, to compare and hash identifiers ignoring case. */
+    private final String foldedIdentifier;
+
     /**
      * Constructs an {@code Assignment} object.
      *
@@ -26,6 +37,19 @@ public class Assignment extends MultiStateAttribute<String, Assignment.Status> {
      */
     public Assignment(String identifier, Status state) {
         super(identifier, state);
+        this.foldedIdentifier = StringUtil.foldCase(identifier);
+    }
+
+    /**
+     * Returns the shared {@code Assignment} with the given {@code identifier} and {@code state}, so that the attributes
+     * of all students share one instance of each.
+     *
+     * @param identifier A valid assignment name.
+     * @param state      A status representing whether the assignment has been marked.
+     */
+    public static Assignment of(String identifier, Status state) {
+        requireAllNonNull(identifier, state);
+        return POOLS.get(state).intern(identifier);
     }
 
     public static boolean isValidAssignmentName(String assignmentName) {
@@ -55,12 +79,12 @@ public class Assignment extends MultiStateAttribute<String, Assignment.Status> {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Assignment // instanceof handles nulls
-                && identifier.equalsIgnoreCase(((Assignment) other).identifier)); // identifier check
+                && foldedIdentifier.equals(((Assignment) other).foldedIdentifier)); // identifier check
     }
 
     @Override
     public int hashCode() {
-        return identifier.toUpperCase().hashCode();
+        return foldedIdentifier.hashCode();
     }
 
     /**
@@ -16,6 +16,10 @@ public class AssignmentContainsKeywordsPredicate implements Predicate<Student> {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Student student) {
         Set<Assignment> assignmentSet = student.getAssignments();
@@ -27,4 +31,11 @@ public class AssignmentContainsKeywordsPredicate implements Predicate<Student> {
         }
         return false;
     }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AssignmentContainsKeywordsPredicate // instanceof handles nulls
+                && keywords.equals(((AssignmentContainsKeywordsPredicate) other).keywords)); // state check
+    }
 }
@@ -1,5 +1,12 @@
 package seedu.studmap.model.student;
 
+import static seedu.studmap.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Map;
+
+import seedu.studmap.commons.util.Interner;
+import seedu.studmap.commons.util.StringUtil;
+
 /**
  * Represents an Attendance object in StudMap.
  * Guarantees: immutable; name is valid as declared in {@link #isValidClassName(String)}
@@ -14,6 +21,11 @@ public class Attendance extends MultiStateAttribute<String, Attendance.Status> {
     public static final String ATTENDANCE_TRUE = "Present";
     public static final String ATTENDANCE_FALSE = "Absent";
 
+    private static final Map<Status, Interner<String, Attendance>> POOLS = createPools(Status.class, Attendance::new);
+
+    /** The identifier with its case folded once, to compare and hash identifiers ignoring case. */
+    private final String foldedIdentifier;
+
     /**
      * Constructs an {@code Attendance} object.
      *
@@ -22,6 +34,19 @@ public class Attendance extends MultiStateAttribute<String, Attendance.Status> {
      */
     public Attendance(String className, Status status) {
         super(className, status);
+        this.foldedIdentifier = StringUtil.foldCase(className);
+    }
+
+    /**
+     * Returns the shared {@code Attendance} with the given {@code className} and {@code status}, so that the attributes
+     * of all students share one instance of each.
+     *
+     * @param className A valid class name.
+     * @param status Attendance status.
+     */
+    public static Attendance of(String className, Status status) {
+        requireAllNonNull(className, status);
+        return POOLS.get(status).intern(className);
     }
 
     /**
@@ -45,12 +70,12 @@ public class Attendance extends MultiStateAttribute<String, Attendance.Status> {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Attendance // instanceof handles nulls
-                && identifier.equalsIgnoreCase(((Attendance) other).identifier)); // identifier check
+                && foldedIdentifier.equals(((Attendance) other).foldedIdentifier)); // identifier check
     }
 
     @Override
     public int hashCode() {
-        return identifier.toUpperCase().hashCode();
+        return foldedIdentifier.hashCode();
     }
 
     /**
@@ -0,0 +1,37 @@
+package seedu.studmap.model.student;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Predicate;
+
+/**
+ * Tests that a {@code Student} is marked as present for the class given, ignoring case.
+ */
+public class ClassAttendedPredicate implements Predicate<Student> {
+    private final String className;
+
+    /**
+     * Constructs a {@code ClassAttendedPredicate} for the class named {@code className}.
+     */
+    public ClassAttendedPredicate(String className) {
+        requireNonNull(className);
+        this.className = className;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    @Override
+    public boolean test(Student student) {
+        return student.hasAttended(className);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ClassAttendedPredicate // instanceof handles nulls
+                && className.equalsIgnoreCase(((ClassAttendedPredicate) other).className)); // state check
+    }
+
+}
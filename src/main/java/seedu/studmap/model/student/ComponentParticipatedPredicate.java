@@ -0,0 +1,37 @@
+package seedu.studmap.model.student;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Predicate;
+
+/**
+ * Tests that a {@code Student} is marked as having participated in the participation component given, ignoring case.
+ */
+public class ComponentParticipatedPredicate implements Predicate<Student> {
+    private final String component;
+
+    /**
+     * Constructs a {@code ComponentParticipatedPredicate} for the participation component {@code component}.
+     */
+    public ComponentParticipatedPredicate(String component) {
+        requireNonNull(component);
+        this.component = component;
+    }
+
+    public String getComponent() {
+        return component;
+    }
+
+    @Override
+    public boolean test(Student student) {
+        return student.hasParticipated(component);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ComponentParticipatedPredicate // instanceof handles nulls
+                && component.equalsIgnoreCase(((ComponentParticipatedPredicate) other).component)); // state check
+    }
+
+}
@@ -10,6 +10,10 @@ import static seedu.studmap.commons.util.AppUtil.checkArgument;
 public class Email {
 
     public static final String NO_EMAIL_STRING = "No Email";
+
+    /** The empty {@code Email}, shared by all students without an email. */
+    public static final Email EMPTY = new Email();
+
     private static final String SPECIAL_CHARACTERS = "+_.-";
     public static final String MESSAGE_CONSTRAINTS = "Emails should be of the format local-part@domain "
             + "and adhere to the following constraints:\n"
@@ -53,6 +57,16 @@ public class Email {
         value = email;
     }
 
+    /**
+     * Returns the {@code Email} of {@code email}, or the shared {@link #EMPTY} one if it is empty.
+     *
+     * @param email A valid email.
+     */
+    public static Email of(String email) {
+        requireNonNull(email);
+        return email.isEmpty() ? EMPTY : new Email(email);
+    }
+
     /**
      * Returns if a given string is a valid email.
      */
@@ -0,0 +1,282 @@
+package seedu.studmap.model.student;
+
+import static seedu.studmap.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
+
+/**
+ * The attributes of a student that are either set or unset, such as attendance, encoded as two bitsets over the codes
+ * of an {@link IdentifierDictionary}: one of the identifiers that are recorded, and one of the recorded identifiers
+ * whose state is set, such as the classes the student was present for. The bitsets are trimmed to the last word
+ * with a recorded identifier, so that equal states have equal bitsets. Each identifier keeps the spelling it was
+ * recorded with, which is only stored when it differs from the spelling the dictionary decodes its code to.
+ * Guarantees: immutable.
+ */
+final class EncodedStates {
+
+    private static final int WORD_SHIFT = 6;
+
+    private final IdentifierDictionary dictionary;
+    private final long[] recorded;
+    private final long[] set;
+    private final Map<Integer, String> spellings;
+    private final int size;
+    private final int setCount;
+
+    private EncodedStates(IdentifierDictionary dictionary, long[] recorded, long[] set,
+            Map<Integer, String> spellings) {
+        this.dictionary = dictionary;
+        this.recorded = recorded;
+        this.set = set;
+        this.spellings = spellings;
+        this.size = countBits(recorded);
+        this.setCount = countBits(set);
+    }
+
+    /**
+     * Encodes {@code attributes} with the codes of {@code dictionary}. Attributes that pass {@code isSet} are recorded
+     * as set, and all others as unset.
+     */
+    static <A extends MultiStateAttribute<String, ?>> EncodedStates encode(IdentifierDictionary dictionary,
+            Collection<A> attributes, Predicate<A> isSet) {
+        requireAllNonNull(dictionary, attributes, isSet);
+        int[] codes = new int[attributes.size()];
+        int maxCode = -1;
+        int i = 0;
+        for (A attribute : attributes) {
+            codes[i] = dictionary.encode(attribute.identifier);
+            maxCode = Math.max(maxCode, codes[i]);
+            i++;
+        }
+
+        long[] recorded = new long[(maxCode >> WORD_SHIFT) + 1];
+        long[] set = new long[recorded.length];
+        Map<Integer, String> spellings = new HashMap<>();
+        i = 0;
+        for (A attribute : attributes) {
+            int code = codes[i++];
+            recorded[code >> WORD_SHIFT] |= 1L << code;
+            putSpelling(dictionary, spellings, code, attribute.identifier);
+            if (isSet.test(attribute)) {
+                set[code >> WORD_SHIFT] |= 1L << code;
+            } else {
+                set[code >> WORD_SHIFT] &= ~(1L << code);
+            }
+        }
+        return new EncodedStates(dictionary, recorded, set, freeze(spellings));
+    }
+
+    /**
+     * Returns the number of recorded identifiers.
+     */
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of recorded identifiers whose state is set.
+     */
+    int getSetCount() {
+        return setCount;
+    }
+
+    /**
+     * Returns true if {@code identifier} is recorded and its state is set, ignoring case.
+     */
+    boolean isSet(String identifier) {
+        int code = dictionary.find(identifier);
+        return code != -1 && (code >> WORD_SHIFT) < set.length && (set[code >> WORD_SHIFT] & 1L << code) != 0;
+    }
+
+    /**
+     * Returns true if {@code identifier} is recorded, whatever its state is, ignoring case.
+     */
+    boolean isRecorded(String identifier) {
+        int code = dictionary.find(identifier);
+        return code != -1 && (code >> WORD_SHIFT) < recorded.length
+                && (recorded[code >> WORD_SHIFT] & 1L << code) != 0;
+    }
+
+    /**
+     * Returns states with {@code identifier} recorded as set if {@code isSet}, or as unset otherwise, and all other
+     * identifiers as in these states. Returns these states if {@code identifier} is already recorded so.
+     */
+    EncodedStates with(String identifier, boolean isSet) {
+        int code = dictionary.encode(identifier);
+        int word = code >> WORD_SHIFT;
+        long bit = 1L << code;
+        if (word < recorded.length && (recorded[word] & bit) != 0 && ((set[word] & bit) != 0) == isSet) {
+            return this;
+        }
+
+        int length = Math.max(recorded.length, word + 1);
+        long[] newRecorded = Arrays.copyOf(recorded, length);
+        long[] newSet = Arrays.copyOf(set, length);
+        newRecorded[word] |= bit;
+        newSet[word] = isSet ? newSet[word] | bit : newSet[word] & ~bit;
+        Map<Integer, String> newSpellings = new HashMap<>(spellings);
+        putSpelling(dictionary, newSpellings, code, identifier);
+        return new EncodedStates(dictionary, newRecorded, newSet, freeze(newSpellings));
+    }
+
+    /**
+     * Returns states with each of {@code attributes} recorded as set if it passes {@code isSet}, or as unset
+     * otherwise, and all other identifiers as in these states. The bitsets are copied when they first change and
+     * when they grow, rather than for each attribute. Returns these states if all of {@code attributes} are already
+     * recorded so.
+     */
+    <A extends MultiStateAttribute<String, ?>> EncodedStates withAll(Collection<A> attributes, Predicate<A> isSet) {
+        requireAllNonNull(attributes, isSet);
+        long[] newRecorded = recorded;
+        long[] newSet = set;
+        Map<Integer, String> newSpellings = null;
+        for (A attribute : attributes) {
+            int code = dictionary.encode(attribute.identifier);
+            int word = code >> WORD_SHIFT;
+            long bit = 1L << code;
+            boolean isAttributeSet = isSet.test(attribute);
+            if (word < newRecorded.length && (newRecorded[word] & bit) != 0
+                    && ((newSet[word] & bit) != 0) == isAttributeSet) {
+                continue;
+            }
+            if (newRecorded == recorded || word >= newRecorded.length) {
+                int length = Math.max(newRecorded.length, word + 1);
+                newRecorded = Arrays.copyOf(newRecorded, length);
+                newSet = Arrays.copyOf(newSet, length);
+            }
+            newRecorded[word] |= bit;
+            newSet[word] = isAttributeSet ? newSet[word] | bit : newSet[word] & ~bit;
+            if (newSpellings == null) {
+                newSpellings = new HashMap<>(spellings);
+            }
+            putSpelling(dictionary, newSpellings, code, attribute.identifier);
+        }
+        return newRecorded == recorded
+                ? this
+                : new EncodedStates(dictionary, newRecorded, newSet, freeze(newSpellings));
+    }
+
+    /**
+     * Returns states without {@code identifier}, and all other identifiers as in these states.
+     * Returns these states if {@code identifier} is not recorded.
+     */
+    EncodedStates without(String identifier) {
+        int code = dictionary.find(identifier);
+        int word = code >> WORD_SHIFT;
+        long bit = 1L << code;
+        if (code == -1 || word >= recorded.length || (recorded[word] & bit) == 0) {
+            return this;
+        }
+
+        long[] newRecorded = recorded.clone();
+        newRecorded[word] &= ~bit;
+        int length = newRecorded.length;
+        while (length > 0 && newRecorded[length - 1] == 0) {
+            length--;
+        }
+        long[] newSet = Arrays.copyOf(set, length);
+        if (word < length) {
+            newSet[word] &= ~bit;
+        }
+        Map<Integer, String> newSpellings = spellings;
+        if (spellings.containsKey(code)) {
+            newSpellings = new HashMap<>(spellings);
+            newSpellings.remove(code);
+            newSpellings = freeze(newSpellings);
+        }
+        return new EncodedStates(dictionary, Arrays.copyOf(newRecorded, length), newSet, newSpellings);
+    }
+
+    /**
+     * Returns the codes of the recorded identifiers whose state is set.
+     */
+    List<Integer> getSetCodes() {
+        List<Integer> codes = new ArrayList<>(setCount);
+        forEachCode(set, codes::add);
+        return codes;
+    }
+
+    /**
+     * Returns the codes of the recorded identifiers, whatever their states are.
+     */
+    List<Integer> getRecordedCodes() {
+        List<Integer> codes = new ArrayList<>(size);
+        forEachCode(recorded, codes::add);
+        return codes;
+    }
+
+    /**
+     * Decodes the recorded identifiers, each in the spelling it was recorded with, into attributes created by
+     * {@code toAttribute}, which is given each identifier and whether its state is set.
+     */
+    <A> Set<A> decode(BiFunction<String, Boolean, A> toAttribute) {
+        Set<A> attributes = new HashSet<>();
+        forEachCode(recorded, code -> attributes.add(toAttribute.apply(
+                spellings.getOrDefault(code, dictionary.decode(code)), (set[code >> WORD_SHIFT] & 1L << code) != 0)));
+        return attributes;
+    }
+
+    /**
+     * Returns true if {@code other} records the same identifiers as these states, whatever their states are.
+     */
+    boolean hasSameIdentifiers(EncodedStates other) {
+        return dictionary == other.dictionary && Arrays.equals(recorded, other.recorded);
+    }
+
+    /**
+     * Returns a hash code of the recorded identifiers, consistent with {@link #hasSameIdentifiers(EncodedStates)}.
+     */
+    int identifiersHashCode() {
+        return Arrays.hashCode(recorded);
+    }
+
+    /**
+     * Stores {@code identifier} as the spelling of {@code code} in {@code spellings} if it differs from the spelling
+     * {@code dictionary} decodes the code to, or removes any stored spelling otherwise.
+     */
+    private static void putSpelling(IdentifierDictionary dictionary, Map<Integer, String> spellings, int code,
+            String identifier) {
+        if (identifier.equals(dictionary.decode(code))) {
+            spellings.remove(code);
+        } else {
+            spellings.put(code, identifier);
+        }
+    }
+
+    private static Map<Integer, String> freeze(Map<Integer, String> spellings) {
+        return spellings.isEmpty() ? Collections.emptyMap() : Collections.unmodifiableMap(spellings);
+    }
+
+    private static void forEachCode(long[] bits, IntConsumer action) {
+        for (int word = 0; word < bits.length; word++) {
+            long remaining = bits[word];
+            while (remaining != 0) {
+                action.accept((word << WORD_SHIFT) + Long.numberOfTrailingZeros(remaining));
+                remaining &= remaining - 1;
+            }
+        }
+    }
+
+    private static int countBits(long[] bits) {
+        int count = 0;
+        for (long word : bits) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+}
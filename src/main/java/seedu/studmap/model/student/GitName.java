@@ -17,6 +17,9 @@ public class GitName {
 
     public static final String VALIDATION_REGEX = "[\\p{all}]*";
 
+    /** The empty {@code GitName}, shared by all students without a GitHub username. */
+    public static final GitName EMPTY = new GitName();
+
     public final String value;
 
     /**
@@ -37,6 +40,16 @@ public class GitName {
         this.value = username;
     }
 
+    /**
+     * Returns the {@code GitName} of {@code username}, or the shared {@link #EMPTY} one if it is empty.
+     *
+     * @param username A valid git username.
+     */
+    public static GitName of(String username) {
+        requireNonNull(username);
+        return username.isEmpty() ? EMPTY : new GitName(username);
+    }
+
     /**
      * Returns string used for display in UI.
      *
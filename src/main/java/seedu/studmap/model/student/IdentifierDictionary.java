@@ -0,0 +1,81 @@
+package seedu.studmap.model.student;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import seedu.studmap.commons.util.StringUtil;
+
+/**
+ * A roster-wide dictionary that encodes the identifiers of attributes, such as the names of classes, as small
+ * integer codes. Identifiers that differ only in case share a code, and every code decodes to the spelling of the
+ * identifier that was first encoded, so that students can record their attributes as bitsets over the codes instead
+ * of holding a copy of each identifier. Students that record an identifier in another spelling keep that spelling
+ * themselves, so the decoded spelling is only a default.
+ * <p>
+ * Codes are never reused, so a code stays valid for as long as the application runs.
+ * Guarantees: thread-safe.
+ */
+public final class IdentifierDictionary {
+
+    /** The dictionary of the names of classes that attendance is taken for. */
+    public static final IdentifierDictionary CLASSES = new IdentifierDictionary();
+
+    /** The dictionary of the components that participation is recorded for. */
+    public static final IdentifierDictionary PARTICIPATION_COMPONENTS = new IdentifierDictionary();
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Map<String, Integer> codes = new ConcurrentHashMap<>();
+    private volatile String[] identifiers = new String[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Returns the code of {@code identifier}, ignoring case, and adds it to the dictionary if it is not in it yet.
+     */
+    public int encode(String identifier) {
+        requireNonNull(identifier);
+        String foldedIdentifier = StringUtil.foldCase(identifier);
+        Integer code = codes.get(foldedIdentifier);
+        if (code != null) {
+            return code;
+        }
+        synchronized (this) {
+            return codes.computeIfAbsent(foldedIdentifier, unused -> add(identifier));
+        }
+    }
+
+    /**
+     * Returns the code of {@code identifier}, ignoring case, or -1 if it is not in the dictionary.
+     */
+    public int find(String identifier) {
+        requireNonNull(identifier);
+        Integer code = codes.get(StringUtil.foldCase(identifier));
+        return code == null ? -1 : code;
+    }
+
+    /**
+     * Returns the identifier with the given {@code code}.
+     */
+    public String decode(int code) {
+        String[] currentIdentifiers = identifiers;
+        if (code < 0 || code >= currentIdentifiers.length || currentIdentifiers[code] == null) {
+            throw new IllegalArgumentException("No identifier has the code " + code);
+        }
+        return currentIdentifiers[code];
+    }
+
+    /**
+     * Stores {@code identifier} under the next unused code. Only called while holding the lock of this dictionary.
+     */
+    private int add(String identifier) {
+        String[] newIdentifiers = size < identifiers.length
+                ? identifiers
+                : Arrays.copyOf(identifiers, identifiers.length * 2);
+        newIdentifiers[size] = identifier;
+        identifiers = newIdentifiers;
+        return size++;
+    }
+}
@@ -3,6 +3,8 @@ package seedu.studmap.model.student;
 import static java.util.Objects.requireNonNull;
 import static seedu.studmap.commons.util.AppUtil.checkArgument;
 
+import seedu.studmap.commons.util.Interner;
+
 /**
  * Represents a Student's module in the student map.
  * Guarantees: immutable; is valid as declared in {@link #isValidModule(String)}
@@ -14,6 +16,8 @@ public class Module {
 
     public static final String VALIDATION_REGEX = "[A-Z]+\\d{4}[A-Z]?";
 
+    private static final Interner<String, Module> POOL = new Interner<>(Module::new);
+
     public final String value;
 
     /**
@@ -27,6 +31,15 @@ public class Module {
         this.value = module;
     }
 
+    /**
+     * Returns the shared {@code Module} of {@code module}, so that the students of a module share one instance.
+     *
+     * @param module A valid module.
+     */
+    public static Module of(String module) {
+        return POOL.intern(module);
+    }
+
     /**
      * Returns true if a given string is a valid module.
      */
@@ -14,9 +14,21 @@ public class ModuleContainsKeywordsPredicate implements Predicate<Student> {
     public ModuleContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
     }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Student student) {
         return keywords.stream()
                 .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(student.getModule().value, keyword));
     }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ModuleContainsKeywordsPredicate // instanceof handles nulls
+                && keywords.equals(((ModuleContainsKeywordsPredicate) other).keywords)); // state check
+    }
 }
@@ -3,6 +3,12 @@ package seedu.studmap.model.student;
 import static seedu.studmap.commons.util.AppUtil.checkArgument;
 import static seedu.studmap.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+import seedu.studmap.commons.util.Interner;
+
 /**
  * Abstract class to generalize the idea of an attribute with an identifier that also bears a state.
  * Guarantees: Is immutable.
@@ -26,6 +32,21 @@ public abstract class MultiStateAttribute<S, T> {
         this.state = state;
     }
 
+    /**
+     * Returns a pool for each state of an attribute type, in which attributes are interned by their identifiers.
+     *
+     * @param stateType Type of the states.
+     * @param constructor Creates an attribute from its identifier and state.
+     */
+    protected static <T extends Enum<T>, A> Map<T, Interner<String, A>> createPools(Class<T> stateType,
+            BiFunction<String, T, A> constructor) {
+        Map<T, Interner<String, A>> pools = new EnumMap<>(stateType);
+        for (T state : stateType.getEnumConstants()) {
+            pools.put(state, new Interner<>(identifier -> constructor.apply(identifier, state)));
+        }
+        return pools;
+    }
+
     /**
      * Checks equality with another MultiStateAttribute with the same type parameters.
      * Has additional requirement that the states are equal.
@@ -1,5 +1,12 @@
 package seedu.studmap.model.student;
 
+import static seedu.studmap.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Map;
+
+import seedu.studmap.commons.util.Interner;
+import seedu.studmap.commons.util.StringUtil;
+
 /**
  * Represents a Participation object in StudMap.
  * Guarantees: immutable; name is valid as declared in {@link #isValidParticipationName(String)}
@@ -14,6 +21,12 @@ public class Participation extends MultiStateAttribute<String, Participation.Sta
     public static final String MESSAGE_STATUS_CONSTRAINTS =
             "Status must be " + PARTICIPATION_TRUE + " or " + PARTICIPATION_FALSE + ".";
 
+    private static final Map<Status, Interner<String, Participation>> POOLS =
+            createPools(Status.class, Participation::new);
+
+    /** The identifier with its case folded once, to compare and hash identifiers ignoring case. */
+    private final String foldedIdentifier;
+
     /**
      * Constructs an {@code Participation} object.
      *
@@ -22,6 +35,19 @@ public class Participation extends MultiStateAttribute<String, Participation.Sta
      */
     public Participation(String identifier, Participation.Status status) {
         super(identifier, status);
+        this.foldedIdentifier = StringUtil.foldCase(identifier);
+    }
+
+    /**
+     * Returns the shared {@code Participation} with the given {@code identifier} and {@code status}, so that the
+     * attributes of all students share one instance of each.
+     *
+     * @param identifier A valid participation component name.
+     * @param status Participation status.
+     */
+    public static Participation of(String identifier, Status status) {
+        requireAllNonNull(identifier, status);
+        return POOLS.get(status).intern(identifier);
     }
 
     /**
@@ -45,12 +71,12 @@ public class Participation extends MultiStateAttribute<String, Participation.Sta
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Participation // instanceof handles nulls
-                && identifier.equalsIgnoreCase(((Participation) other).identifier)); // identifier check
+                && foldedIdentifier.equals(((Participation) other).foldedIdentifier)); // identifier check
     }
 
     @Override
     public int hashCode() {
-        return identifier.toUpperCase().hashCode();
+        return foldedIdentifier.hashCode();
     }
 
     /**
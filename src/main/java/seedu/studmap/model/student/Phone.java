@@ -14,6 +14,9 @@ public class Phone {
     public static final String MESSAGE_CONSTRAINTS =
             "Phone numbers should only contain numbers, and it should be at least 3 digits long.";
     public static final String VALIDATION_REGEX = "[\\+]?\\d{3,}";
+    /** The empty {@code Phone}, shared by all students without a phone number. */
+    public static final Phone EMPTY = new Phone();
+
     public final String value;
 
     /**
@@ -34,6 +37,16 @@ public class Phone {
         value = phone;
     }
 
+    /**
+     * Returns the {@code Phone} of {@code phone}, or the shared {@link #EMPTY} one if it is empty.
+     *
+     * @param phone A valid phone number.
+     */
+    public static Phone of(String phone) {
+        requireNonNull(phone);
+        return phone.isEmpty() ? EMPTY : new Phone(phone);
+    }
+
     /**
      * Returns true if a given string is a valid phone number.
      */
@@ -0,0 +1,93 @@
+package seedu.studmap.model.student;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+import seedu.studmap.commons.util.StringUtil;
+
+/**
+ * A {@code Comparator<Student>} that orders students by a single sort key, either a number or a string compared
+ * ignoring case. Besides comparing students directly, it lets {@link StudentSorter} extract the key of every student
+ * once into a primitive or collation key array before sorting, instead of recomputing it on every comparison.
+ * Guarantees: immutable.
+ */
+public final class SortKeyComparator implements Comparator<Student> {
+
+    private final ToDoubleFunction<Student> numberKey;
+    private final Function<Student, String> textKey;
+    private final boolean isNullFirst;
+
+    private SortKeyComparator(ToDoubleFunction<Student> numberKey, Function<Student, String> textKey,
+            boolean isNullFirst) {
+        this.numberKey = numberKey;
+        this.textKey = textKey;
+        this.isNullFirst = isNullFirst;
+    }
+
+    /**
+     * Returns a comparator that orders students by the number extracted by {@code numberKey}.
+     */
+    public static SortKeyComparator comparingNumber(ToDoubleFunction<Student> numberKey) {
+        requireNonNull(numberKey);
+        return new SortKeyComparator(numberKey, null, false);
+    }
+
+    /**
+     * Returns a comparator that orders students by the string extracted by {@code textKey}, ignoring case.
+     * Students without a string are ordered before all others if {@code isNullFirst}, and after all others otherwise.
+     */
+    public static SortKeyComparator comparingText(Function<Student, String> textKey, boolean isNullFirst) {
+        requireNonNull(textKey);
+        return new SortKeyComparator(null, textKey, isNullFirst);
+    }
+
+    boolean isNumeric() {
+        return numberKey != null;
+    }
+
+    /**
+     * Returns the number key of {@code student}. Only valid if this comparator {@link #isNumeric()}.
+     */
+    double numberKeyOf(Student student) {
+        return numberKey.applyAsDouble(student);
+    }
+
+    /**
+     * Returns the collation key of {@code student}: its string key with the case folded, so that comparing collation
+     * keys with {@link String#compareTo(String)} orders them like {@link String#compareToIgnoreCase(String)}.
+     * Only valid if this comparator is not {@link #isNumeric()}.
+     */
+    String collationKeyOf(Student student) {
+        String text = textKey.apply(student);
+        return text == null ? null : StringUtil.foldCase(text);
+    }
+
+    /**
+     * Compares two collation keys, placing null keys as specified when this comparator was created.
+     */
+    int compareCollationKeys(String first, String second) {
+        if (first == null || second == null) {
+            if (first == second) {
+                return 0;
+            }
+            return (first == null) == isNullFirst ? -1 : 1;
+        }
+        return first.compareTo(second);
+    }
+
+    @Override
+    public int compare(Student first, Student second) {
+        if (isNumeric()) {
+            return Double.compare(numberKeyOf(first), numberKeyOf(second));
+        }
+        String firstText = textKey.apply(first);
+        String secondText = textKey.apply(second);
+        if (firstText == null || secondText == null) {
+            return compareCollationKeys(firstText, secondText);
+        }
+        return firstText.compareToIgnoreCase(secondText);
+    }
+}
@@ -0,0 +1,274 @@
+package seedu.studmap.model.student;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * A sorted view of a list of students, which keeps its source list in its original order.
+ * The view remembers the active sort order. Full sorts are done by {@link StudentSorter}, while small changes to the
+ * source list, such as a single student being edited, only re-position the affected students in the view.
+ * Until a sort order is set, the view has the same order as its source list.
+ */
+public class SortedStudentList extends TransformationList<Student, Student> {
+
+    /** Changes to the source list that add more students than this are handled by re-sorting the whole view. */
+    private static final int INCREMENTAL_CHANGE_LIMIT = 16;
+
+    /** The students in the view, in view order. Only the first {@code size} elements are used. */
+    private Student[] students = new Student[0];
+    /** The position in the source list of each student in the view. */
+    private int[] sourcePositions = new int[0];
+    /** The position in the view of each student in the source list, the inverse of {@code sourcePositions}. */
+    private int[] viewPositions = new int[0];
+    private int size;
+
+    private Comparator<Student> sortComparator;
+    private Comparator<Student> viewComparator;
+    private boolean isDescending;
+
+    /**
+     * Creates a {@code SortedStudentList} over {@code source}, in the same order as {@code source}.
+     */
+    public SortedStudentList(ObservableList<Student> source) {
+        super(source);
+        resort();
+    }
+
+    /**
+     * Sorts the view by {@code comparator}, then by name, then by student ID, reversing the whole order if
+     * {@code isDescending}. The order is remembered and kept as the source list changes.
+     * The new order is published as a single permutation of the view.
+     */
+    public void setComparator(Comparator<Student> comparator, boolean isDescending) {
+        requireNonNull(comparator);
+        this.sortComparator = comparator;
+        this.viewComparator = StudentSorter.withTieBreaks(comparator);
+        this.isDescending = isDescending;
+
+        int[] oldSourcePositions = Arrays.copyOf(sourcePositions, size);
+        resort();
+
+        int[] permutation = new int[size];
+        for (int i = 0; i < size; i++) {
+            permutation[i] = viewPositions[oldSourcePositions[i]];
+        }
+        beginChange();
+        nextPermutation(0, size, permutation);
+        endChange();
+    }
+
+    @Override
+    protected void sourceChanged(Change<? extends Student> change) {
+        int addedCount = 0;
+        while (change.next()) {
+            addedCount += change.getAddedSize();
+        }
+        change.reset();
+
+        beginChange();
+        if (addedCount > INCREMENTAL_CHANGE_LIMIT) {
+            List<Student> oldStudents = List.of(Arrays.copyOf(students, size));
+            resort();
+            if (!oldStudents.isEmpty()) {
+                nextRemove(0, oldStudents);
+            }
+            if (size > 0) {
+                nextAdd(0, size);
+            }
+        } else {
+            while (change.next()) {
+                applySourceChange(change);
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Applies one sub-change of the source list to the view, removing and inserting only the affected students.
+     */
+    private void applySourceChange(Change<? extends Student> change) {
+        int from = change.getFrom();
+        if (change.wasPermutated()) {
+            for (int i = 0; i < size; i++) {
+                if (sourcePositions[i] >= from && sourcePositions[i] < change.getTo()) {
+                    sourcePositions[i] = change.getPermutation(sourcePositions[i]);
+                }
+            }
+            rebuildViewPositions();
+            if (sortComparator == null) {
+                resort();
+                nextPermutation(from, change.getTo(), permutationOf(change));
+            }
+            return;
+        }
+
+        if (change.wasUpdated()) {
+            for (int sourcePosition = from; sourcePosition < change.getTo(); sourcePosition++) {
+                int viewPosition = getViewIndex(sourcePosition);
+                removeAt(viewPosition);
+                nextRemove(viewPosition, getSource().get(sourcePosition));
+                insert(sourcePosition);
+            }
+            return;
+        }
+
+        int removedEnd = from + change.getRemovedSize();
+        int shift = change.getAddedSize() - change.getRemovedSize();
+        for (int i = size - 1; i >= 0; i--) {
+            int sourcePosition = sourcePositions[i];
+            if (sourcePosition >= from && sourcePosition < removedEnd) {
+                Student removed = students[i];
+                removeAt(i);
+                nextRemove(i, removed);
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            if (sourcePositions[i] >= removedEnd) {
+                sourcePositions[i] += shift;
+            }
+        }
+        rebuildViewPositions();
+        for (int sourcePosition = from; sourcePosition < change.getTo(); sourcePosition++) {
+            insert(sourcePosition);
+        }
+    }
+
+    private static int[] permutationOf(Change<? extends Student> change) {
+        int[] permutation = new int[change.getTo() - change.getFrom()];
+        for (int i = 0; i < permutation.length; i++) {
+            permutation[i] = change.getPermutation(change.getFrom() + i);
+        }
+        return permutation;
+    }
+
+    /**
+     * Rebuilds the whole view from the source list in the active sort order.
+     */
+    private void resort() {
+        List<? extends Student> source = getSource();
+        size = source.size();
+        if (sortComparator == null) {
+            sourcePositions = new int[size];
+            for (int i = 0; i < size; i++) {
+                sourcePositions[i] = i;
+            }
+        } else {
+            sourcePositions = StudentSorter.sort(source, sortComparator, isDescending);
+        }
+        students = new Student[size];
+        for (int i = 0; i < size; i++) {
+            students[i] = source.get(sourcePositions[i]);
+        }
+        rebuildViewPositions();
+    }
+
+    /**
+     * Rebuilds {@code viewPositions} from {@code sourcePositions}. Students of the source list that are not yet in the
+     * view have no view position. While a change with several sub-changes is applied, the source positions of the
+     * view can be past the end of the source list, so the array covers them too.
+     */
+    private void rebuildViewPositions() {
+        int length = getSource().size();
+        for (int i = 0; i < size; i++) {
+            length = Math.max(length, sourcePositions[i] + 1);
+        }
+        viewPositions = new int[length];
+        Arrays.fill(viewPositions, -1);
+        updateViewPositions(0);
+    }
+
+    /**
+     * Updates {@code viewPositions} for the students in the view from {@code viewPosition} on, after they moved.
+     */
+    private void updateViewPositions(int viewPosition) {
+        for (int i = viewPosition; i < size; i++) {
+            viewPositions[sourcePositions[i]] = i;
+        }
+    }
+
+    /**
+     * Inserts the student at {@code sourcePosition} of the source list at its sorted position in the view.
+     */
+    private void insert(int sourcePosition) {
+        Student student = getSource().get(sourcePosition);
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (compare(students[middle], sourcePositions[middle], student, sourcePosition) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        if (size == students.length) {
+            int capacity = Math.max(8, size + (size >> 1));
+            students = Arrays.copyOf(students, capacity);
+            sourcePositions = Arrays.copyOf(sourcePositions, capacity);
+        }
+        System.arraycopy(students, low, students, low + 1, size - low);
+        System.arraycopy(sourcePositions, low, sourcePositions, low + 1, size - low);
+        students[low] = student;
+        sourcePositions[low] = sourcePosition;
+        size++;
+        updateViewPositions(low);
+        nextAdd(low, low + 1);
+    }
+
+    private void removeAt(int viewPosition) {
+        viewPositions[sourcePositions[viewPosition]] = -1;
+        System.arraycopy(students, viewPosition + 1, students, viewPosition, size - viewPosition - 1);
+        System.arraycopy(sourcePositions, viewPosition + 1, sourcePositions, viewPosition, size - viewPosition - 1);
+        size--;
+        students[size] = null;
+        updateViewPositions(viewPosition);
+    }
+
+    /**
+     * Compares two students in the active view order. Students that are tied keep their order in the source list.
+     */
+    private int compare(Student first, int firstSourcePosition, Student second, int secondSourcePosition) {
+        int result = viewComparator == null ? 0 : viewComparator.compare(first, second);
+        if (result == 0) {
+            result = Integer.compare(firstSourcePosition, secondSourcePosition);
+        }
+        return isDescending ? -result : result;
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return sourcePositions[index];
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        if (index < 0 || index >= viewPositions.length) {
+            return -1;
+        }
+        return viewPositions[index];
+    }
+
+    @Override
+    public Student get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return students[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
@@ -1,10 +1,14 @@
 package seedu.studmap.model.student;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.studmap.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 
 import seedu.studmap.model.tag.Tag;
@@ -25,10 +29,27 @@ public class Student {
     private final StudentID id;
     private final TeleHandle teleHandle;
     private final GitName gitName;
-    private final Set<Tag> tags = new HashSet<>();
-    private final Set<Attendance> attendances = new HashSet<>();
-    private final Set<Assignment> assignments = new HashSet<>();
-    private final Set<Participation> participations = new HashSet<>();
+    private final Set<Tag> tags;
+    private final Set<Assignment> assignments;
+
+    // Attendance and participation, encoded over the roster-wide dictionaries of their identifiers
+    private final EncodedStates attendanceStates;
+    private final EncodedStates participationStates;
+
+    // Views of the encoded states, built on first use
+    private Set<Attendance> attendances;
+    private Set<Participation> participations;
+
+    // Identity key and hash code, computed once since no field ever changes
+    private final StudentKey key;
+    private final int hash;
+
+    // Derived statistics, computed once since the sets above never change
+    private final int assignmentMarkedCount;
+    private final int assignmentReceivedCount;
+    private final float attendancePercentage;
+    private final float participationPercentage;
+    private final float assignmentPercentage;
 
     /**
      * Constructor using a StudentData parameter object.
@@ -38,30 +59,60 @@ public class Student {
      * @param studentData StudentData parameter object.
      */
     public Student(StudentData studentData) {
-        requireAllNonNull(
-                studentData.getId(),
-                studentData.getGitUser(),
-                studentData.getTeleHandle(),
-                studentData.getName(),
-                studentData.getPhone(),
-                studentData.getEmail(),
-                studentData.getModule(),
-                studentData.getTags(),
-                studentData.getAttendances(),
-                studentData.getAssignments(),
-                studentData.getParticipations());
-
-        this.id = studentData.getId();
-        this.module = studentData.getModule();
-        this.teleHandle = studentData.getTeleHandle();
-        this.gitName = studentData.getGitUser();
-        this.name = studentData.getName();
-        this.phone = studentData.getPhone();
-        this.email = studentData.getEmail();
-        this.tags.addAll(studentData.getTags());
-        this.attendances.addAll(studentData.getAttendances());
-        this.assignments.addAll(studentData.getAssignments());
-        this.participations.addAll(studentData.getParticipations());
+        this(null, studentData.getName(), studentData.getPhone(), studentData.getEmail(), studentData.getModule(),
+                studentData.getId(), studentData.getTeleHandle(), studentData.getGitUser(),
+                copyOf(studentData.getTags()), copyOf(studentData.getAssignments()),
+                EncodedStates.encode(IdentifierDictionary.CLASSES, studentData.getAttendances(),
+                        x -> x.state == Attendance.Status.PRESENT),
+                EncodedStates.encode(IdentifierDictionary.PARTICIPATION_COMPONENTS, studentData.getParticipations(),
+                        x -> x.state == Participation.Status.PARTICIPATED));
+    }
+
+    /**
+     * Constructs a student from its fields, which are not copied. The sets must be unmodifiable, so that they can be
+     * shared with other versions of the student. The identity {@code key} of the student is computed if it is null.
+     */
+    private Student(StudentKey key, Name name, Phone phone, Email email, Module module, StudentID id,
+            TeleHandle teleHandle, GitName gitName, Set<Tag> tags, Set<Assignment> assignments,
+            EncodedStates attendanceStates, EncodedStates participationStates) {
+        requireAllNonNull(id, gitName, teleHandle, name, phone, email, module);
+
+        this.id = id;
+        this.module = module;
+        this.teleHandle = teleHandle;
+        this.gitName = gitName;
+        this.name = name;
+        this.phone = phone;
+        this.email = email;
+        this.tags = tags;
+        this.assignments = assignments;
+        this.attendanceStates = attendanceStates;
+        this.participationStates = participationStates;
+        this.key = key != null ? key : StudentKey.of(name, id, module);
+        this.hash = Objects.hash(this.key, phone, email, gitName, teleHandle, tags,
+                attendanceStates.identifiersHashCode(), assignments);
+
+        this.assignmentMarkedCount = (int) assignments.stream()
+                .filter(x -> x.state == Assignment.Status.MARKED).count();
+        this.assignmentReceivedCount = (int) assignments.stream()
+                .filter(x -> x.state == Assignment.Status.RECEIVED).count();
+        this.attendancePercentage = (float) attendanceStates.getSetCount() / attendanceStates.size() * 100;
+        this.participationPercentage =
+                (float) participationStates.getSetCount() / participationStates.size() * 100;
+        this.assignmentPercentage = (float) assignmentMarkedCount / assignments.size() * 100;
+    }
+
+    private static <T> Set<T> copyOf(Set<T> set) {
+        requireNonNull(set);
+        return Collections.unmodifiableSet(new HashSet<>(set));
+    }
+
+    /**
+     * Returns the identity key of this student, which is equal for two students if and only if
+     * {@link #isSameStudent(Student)} holds between them.
+     */
+    public StudentKey getKey() {
+        return key;
     }
 
     public StudentID getId() {
@@ -153,15 +204,54 @@ public class Student {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     /**
      * Returns an immutable Attendances set, which throws {@code UnsupportedOperationException}
-     * if modification is attempted.
+     * if modification is attempted. The set is decoded from the attendance bitsets the first time it is needed.
      */
     public Set<Attendance> getAttendances() {
-        return Collections.unmodifiableSet(attendances);
+        Set<Attendance> view = attendances;
+        if (view == null) {
+            view = Collections.unmodifiableSet(attendanceStates.decode((className, isPresent) ->
+                    Attendance.of(className, isPresent ? Attendance.Status.PRESENT : Attendance.Status.ABSENT)));
+            attendances = view;
+        }
+        return view;
+    }
+
+    /**
+     * Returns true if the student is marked as present for the class {@code className}, ignoring case.
+     */
+    public boolean hasAttended(String className) {
+        return attendanceStates.isSet(className);
+    }
+
+    /**
+     * Returns the codes in {@link IdentifierDictionary#CLASSES} of the classes the student is marked as present for.
+     */
+    public List<Integer> getAttendedClassCodes() {
+        return attendanceStates.getSetCodes();
+    }
+
+    /**
+     * Returns the codes in {@link IdentifierDictionary#CLASSES} of the classes with an attendance recorded, whether
+     * the student was present or absent.
+     */
+    public List<Integer> getRecordedClassCodes() {
+        return attendanceStates.getRecordedCodes();
+    }
+
+    /**
+     * Returns the attendance status of the student for the class {@code className}, ignoring case, or an empty
+     * Optional if none is recorded.
+     */
+    public Optional<Attendance.Status> getAttendanceStatus(String className) {
+        if (!attendanceStates.isRecorded(className)) {
+            return Optional.empty();
+        }
+        return Optional.of(attendanceStates.isSet(className) ? Attendance.Status.PRESENT : Attendance.Status.ABSENT);
     }
 
     /**
@@ -169,15 +259,227 @@ public class Student {
      * if modification is attempted.
      */
     public Set<Assignment> getAssignments() {
-        return Collections.unmodifiableSet(assignments);
+        return assignments;
+    }
+
+    /**
+     * Returns the marking status of the assignment named {@code assignmentName} of the student, ignoring case, or an
+     * empty Optional if the student has no such assignment.
+     */
+    public Optional<Assignment.Status> getAssignmentStatus(String assignmentName) {
+        requireNonNull(assignmentName);
+        for (Assignment assignment : assignments) {
+            if (assignment.identifier.equalsIgnoreCase(assignmentName)) {
+                return Optional.of(assignment.state);
+            }
+        }
+        return Optional.empty();
     }
 
     /**
      * Returns an immutable Participation set, which throws {@code UnsupportedOperationException}
-     * if modification is attempted.
+     * if modification is attempted. The set is decoded from the participation bitsets the first time it is needed.
      */
     public Set<Participation> getParticipations() {
-        return Collections.unmodifiableSet(participations);
+        Set<Participation> view = participations;
+        if (view == null) {
+            view = Collections.unmodifiableSet(participationStates.decode((component, isParticipated) ->
+                    Participation.of(component, isParticipated
+                            ? Participation.Status.PARTICIPATED
+                            : Participation.Status.NOT_PARTICIPATED)));
+            participations = view;
+        }
+        return view;
+    }
+
+    /**
+     * Returns true if the student participated in the component {@code component}, ignoring case.
+     */
+    public boolean hasParticipated(String component) {
+        return participationStates.isSet(component);
+    }
+
+    /**
+     * Returns the codes in {@link IdentifierDictionary#PARTICIPATION_COMPONENTS} of the components the student
+     * participated in.
+     */
+    public List<Integer> getParticipatedComponentCodes() {
+        return participationStates.getSetCodes();
+    }
+
+    /**
+     * Returns the codes in {@link IdentifierDictionary#PARTICIPATION_COMPONENTS} of the components with a participation
+     * recorded, whether the student participated or not.
+     */
+    public List<Integer> getRecordedComponentCodes() {
+        return participationStates.getRecordedCodes();
+    }
+
+    /**
+     * Returns the participation status of the student for the component {@code component}, ignoring case, or an
+     * empty Optional if none is recorded.
+     */
+    public Optional<Participation.Status> getParticipationStatus(String component) {
+        if (!participationStates.isRecorded(component)) {
+            return Optional.empty();
+        }
+        return Optional.of(participationStates.isSet(component)
+                ? Participation.Status.PARTICIPATED
+                : Participation.Status.NOT_PARTICIPATED);
+    }
+
+    /**
+     * Returns this student with the given contact details, sharing all other fields with this student.
+     * Returns this student if it already has all of them.
+     */
+    public Student withContactDetails(Phone newPhone, Email newEmail, GitName newGitName, TeleHandle newTeleHandle) {
+        requireAllNonNull(newPhone, newEmail, newGitName, newTeleHandle);
+        if (phone.equals(newPhone) && email.equals(newEmail) && gitName.equals(newGitName)
+                && teleHandle.equals(newTeleHandle)) {
+            return this;
+        }
+        return new Student(key, name, newPhone, newEmail, module, id, newTeleHandle, newGitName, tags, assignments,
+                attendanceStates, participationStates);
+    }
+
+    /**
+     * Returns this student with {@code newTags} added, sharing all other fields with this student.
+     * Returns this student if it already has all of {@code newTags}.
+     */
+    public Student withTags(Collection<Tag> newTags) {
+        requireAllNonNull(newTags);
+        if (tags.containsAll(newTags)) {
+            return this;
+        }
+        Set<Tag> editedTags = new HashSet<>(tags);
+        editedTags.addAll(newTags);
+        return new Student(key, name, phone, email, module, id, teleHandle, gitName,
+                Collections.unmodifiableSet(editedTags), assignments, attendanceStates, participationStates);
+    }
+
+    /**
+     * Returns this student without {@code removedTags}, sharing all other fields with this student.
+     * Returns this student if it has none of {@code removedTags}.
+     */
+    public Student withoutTags(Collection<Tag> removedTags) {
+        requireAllNonNull(removedTags);
+        Set<Tag> editedTags = new HashSet<>(tags);
+        if (!editedTags.removeAll(removedTags)) {
+            return this;
+        }
+        return new Student(key, name, phone, email, module, id, teleHandle, gitName,
+                Collections.unmodifiableSet(editedTags), assignments, attendanceStates, participationStates);
+    }
+
+    /**
+     * Returns this student with {@code attendance} recorded in place of any attendance for the same class,
+     * sharing all other fields with this student. Returns this student if {@code attendance} is already recorded.
+     */
+    public Student withAttendance(Attendance attendance) {
+        requireNonNull(attendance);
+        EncodedStates editedStates = attendanceStates.with(attendance.identifier,
+                attendance.state == Attendance.Status.PRESENT);
+        return editedStates == attendanceStates ? this : new Student(key, name, phone, email, module, id,
+                teleHandle, gitName, tags, assignments, editedStates, participationStates);
+    }
+
+    /**
+     * Returns this student without the attendance for the class {@code className}, ignoring case, sharing all other
+     * fields with this student. Returns this student if no attendance is recorded for the class.
+     */
+    public Student withoutAttendance(String className) {
+        requireNonNull(className);
+        EncodedStates editedStates = attendanceStates.without(className);
+        return editedStates == attendanceStates ? this : new Student(key, name, phone, email, module, id,
+                teleHandle, gitName, tags, assignments, editedStates, participationStates);
+    }
+
+    /**
+     * Returns this student with {@code participation} recorded in place of any participation for the same
+     * component, sharing all other fields with this student. Returns this student if {@code participation} is
+     * already recorded.
+     */
+    public Student withParticipation(Participation participation) {
+        requireNonNull(participation);
+        EncodedStates editedStates = participationStates.with(participation.identifier,
+                participation.state == Participation.Status.PARTICIPATED);
+        return editedStates == participationStates ? this : new Student(key, name, phone, email, module, id,
+                teleHandle, gitName, tags, assignments, attendanceStates, editedStates);
+    }
+
+    /**
+     * Returns this student without the participation for the component {@code component}, ignoring case, sharing
+     * all other fields with this student. Returns this student if no participation is recorded for the component.
+     */
+    public Student withoutParticipation(String component) {
+        requireNonNull(component);
+        EncodedStates editedStates = participationStates.without(component);
+        return editedStates == participationStates ? this : new Student(key, name, phone, email, module, id,
+                teleHandle, gitName, tags, assignments, attendanceStates, editedStates);
+    }
+
+    /**
+     * Returns this student with {@code assignment} recorded in place of any assignment with the same name,
+     * sharing all other fields with this student. Returns this student if {@code assignment} is already recorded.
+     */
+    public Student withAssignment(Assignment assignment) {
+        requireNonNull(assignment);
+        if (assignments.stream().anyMatch(x -> x.strongEquals(assignment))) {
+            return this;
+        }
+        Set<Assignment> editedAssignments = new HashSet<>(assignments);
+        editedAssignments.remove(assignment);
+        editedAssignments.add(assignment);
+        return new Student(key, name, phone, email, module, id, teleHandle, gitName, tags,
+                Collections.unmodifiableSet(editedAssignments), attendanceStates, participationStates);
+    }
+
+    /**
+     * Returns this student without the assignment named {@code assignmentName}, ignoring case, sharing all other
+     * fields with this student. Returns this student if no such assignment is recorded.
+     */
+    public Student withoutAssignment(String assignmentName) {
+        requireNonNull(assignmentName);
+        Set<Assignment> editedAssignments = new HashSet<>(assignments);
+        if (!editedAssignments.removeIf(x -> x.identifier.equalsIgnoreCase(assignmentName))) {
+            return this;
+        }
+        return new Student(key, name, phone, email, module, id, teleHandle, gitName, tags,
+                Collections.unmodifiableSet(editedAssignments), attendanceStates, participationStates);
+    }
+
+    /**
+     * Returns this student with each of {@code newAttendances}, {@code newParticipations} and {@code newAssignments}
+     * recorded in place of any record with the same identifier, sharing all other fields with this student. The new
+     * records are applied together, so that a single new student is created however many there are. Returns this
+     * student if all of them are already recorded.
+     */
+    public Student withRecords(Collection<Attendance> newAttendances, Collection<Participation> newParticipations,
+            Collection<Assignment> newAssignments) {
+        requireAllNonNull(newAttendances, newParticipations, newAssignments);
+        EncodedStates editedAttendanceStates = attendanceStates.withAll(newAttendances,
+                x -> x.state == Attendance.Status.PRESENT);
+        EncodedStates editedParticipationStates = participationStates.withAll(newParticipations,
+                x -> x.state == Participation.Status.PARTICIPATED);
+        Set<Assignment> editedAssignments = assignments;
+        for (Assignment assignment : newAssignments) {
+            if (editedAssignments.stream().anyMatch(x -> x.strongEquals(assignment))) {
+                continue;
+            }
+            if (editedAssignments == assignments) {
+                editedAssignments = new HashSet<>(assignments);
+            }
+            editedAssignments.remove(assignment);
+            editedAssignments.add(assignment);
+        }
+
+        if (editedAttendanceStates == attendanceStates && editedParticipationStates == participationStates
+                && editedAssignments == assignments) {
+            return this;
+        }
+        return new Student(key, name, phone, email, module, id, teleHandle, gitName, tags,
+                editedAssignments == assignments ? assignments : Collections.unmodifiableSet(editedAssignments),
+                editedAttendanceStates, editedParticipationStates);
     }
 
     public StudentData getStudentData() {
@@ -204,125 +506,84 @@ public class Student {
      * Returns attendance in percentage.
      */
     public float getAttendancePercentage() {
-        float numOfClasses = getAttendances().size();
-        float presentFor = (float) getAttendances().stream().filter(x -> x.state == Attendance.Status.PRESENT).count();
-        return presentFor / numOfClasses * 100;
+        return attendancePercentage;
     }
 
     /**
      * Returns attendance in percentage for descending order sorting.
      */
     public float getAttendancePercentageForDsc() {
-        float numOfClasses = getAttendances().size();
-        if (numOfClasses == 0) {
-            return -Float.MIN_VALUE;
-        }
-        float presentFor = (float) getAttendances().stream().filter(x -> x.state == Attendance.Status.PRESENT).count();
-        return presentFor / numOfClasses * 100;
+        return attendanceStates.isEmpty() ? -Float.MIN_VALUE : attendancePercentage;
     }
 
     /**
      * Returns attendance in percentage for ascending order sorting.
      */
     public float getAttendancePercentageForAsc() {
-        float numOfClasses = getAttendances().size();
-        if (numOfClasses == 0) {
-            return Float.MAX_VALUE;
-        }
-        float presentFor = (float) getAttendances().stream().filter(x -> x.state == Attendance.Status.PRESENT).count();
-        return presentFor / numOfClasses * 100;
+        return attendanceStates.isEmpty() ? Float.MAX_VALUE : attendancePercentage;
     }
 
     /**
      * Returns assignments marked in percentage.
      */
     public float getAssignmentPercentage() {
-        float numOfAssignments = getAssignmentCount();
-        float marked = (float) getAssignmentMarkedCount();
-        return marked / numOfAssignments * 100;
+        return assignmentPercentage;
     }
 
     /**
      * Returns participation in percentage for descending order sorting.
      */
     public float getParticipationPercentageForDsc() {
-        float numOfPart = getParticipations().size();
-        if (numOfPart == 0) {
-            return -Float.MIN_VALUE;
-        }
-        float participatedFor =
-                (float) getParticipations().stream().filter(x -> x.state == Participation.Status.PARTICIPATED).count();
-        return participatedFor / numOfPart * 100;
+        return participationStates.isEmpty() ? -Float.MIN_VALUE : participationPercentage;
     }
 
     /**
      * Returns participation in percentage for ascending order sorting.
      */
     public float getParticipationPercentageForAsc() {
-        float numOfPart = getParticipations().size();
-        if (numOfPart == 0) {
-            return Float.MAX_VALUE;
-        }
-        float participatedFor =
-                (float) getParticipations().stream().filter(x -> x.state == Participation.Status.PARTICIPATED).count();
-        return participatedFor / numOfPart * 100;
+        return participationStates.isEmpty() ? Float.MAX_VALUE : participationPercentage;
     }
 
     /**
      * Returns participation in percentage.
      */
     public float getParticipationPercentage() {
-        float numOfPart = getParticipations().size();
-        float participatedFor =
-                (float) getParticipations().stream().filter(x -> x.state == Participation.Status.PARTICIPATED).count();
-        return participatedFor / numOfPart * 100;
+        return participationPercentage;
     }
 
     /**
      * Returns number of assignments marked.
      */
     public int getAssignmentMarkedCount() {
-        return (int) getAssignments().stream()
-                .filter(x -> x.state == Assignment.Status.MARKED).count();
+        return assignmentMarkedCount;
     }
 
     /**
      * Returns number of assignments marked for descending order sorting.
      */
     public int getAssignmentMarkedCountForDsc() {
-        if (getAssignments().stream().count() == 0) {
-            return Integer.MIN_VALUE;
-        } else {
-            return (int) getAssignments().stream()
-                    .filter(x -> x.state == Assignment.Status.MARKED).count();
-        }
+        return assignments.isEmpty() ? Integer.MIN_VALUE : assignmentMarkedCount;
     }
 
     /**
      * Returns number of assignments marked for ascending order sorting.
      */
     public int getAssignmentMarkedCountForAsc() {
-        if (getAssignments().stream().count() == 0) {
-            return Integer.MAX_VALUE;
-        } else {
-            return (int) getAssignments().stream()
-                    .filter(x -> x.state == Assignment.Status.MARKED).count();
-        }
+        return assignments.isEmpty() ? Integer.MAX_VALUE : assignmentMarkedCount;
     }
 
     /**
      * Returns number of assignments received but unmarked.
      */
     public int getAssignmentUnmarkedCount() {
-        return (int) getAssignments().stream()
-                .filter(x -> x.state == Assignment.Status.RECEIVED).count();
+        return assignmentReceivedCount;
     }
 
     /**
      * Returns number of assignments recorded.
      */
     public int getAssignmentCount() {
-        return getAssignments().size();
+        return assignments.size();
     }
 
     /**
@@ -334,8 +595,7 @@ public class Student {
             return true;
         }
 
-        return otherStudent != null && otherStudent.getName().equals(getName())
-                && otherStudent.getId().equals(getId()) && otherStudent.getModule().equals(getModule());
+        return otherStudent != null && otherStudent.key.equals(key);
     }
 
 
@@ -354,25 +614,20 @@ public class Student {
         }
 
         Student otherStudent = (Student) other;
-        return otherStudent.getName().equals(getName())
-                && otherStudent.getId().equals(getId())
+        return otherStudent.hash == hash
+                && otherStudent.key.equals(key)
                 && otherStudent.getGitName().equals(getGitName())
                 && otherStudent.getTeleHandle().equals(getTeleHandle())
-                && otherStudent.getModule().equals(getModule())
                 && otherStudent.getPhone().equals(getPhone())
                 && otherStudent.getEmail().equals(getEmail())
                 && otherStudent.getTags().equals(getTags())
-                && otherStudent.getAttendances().equals(getAttendances())
+                && otherStudent.attendanceStates.hasSameIdentifiers(attendanceStates)
                 && otherStudent.getAssignments().equals(getAssignments());
     }
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-
-        return Objects.hash(name, phone, email, id, gitName, teleHandle, module,
-                tags, attendances, assignments, participations);
-
+        return hash;
     }
 
     @Override
@@ -11,11 +11,11 @@ import seedu.studmap.model.tag.Tag;
  */
 public class StudentData {
     private StudentID studentID;
-    private GitName gitName = new GitName();
-    private TeleHandle teleHandle = new TeleHandle();
+    private GitName gitName = GitName.EMPTY;
+    private TeleHandle teleHandle = TeleHandle.EMPTY;
     private Name name;
-    private Phone phone = new Phone();
-    private Email email = new Email();
+    private Phone phone = Phone.EMPTY;
+    private Email email = Email.EMPTY;
     private Module module;
     private Set<Tag> tags = new HashSet<>();
     private Set<Attendance> attendances = new HashSet<>();
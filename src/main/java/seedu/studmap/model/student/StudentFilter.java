@@ -0,0 +1,93 @@
+package seedu.studmap.model.student;
+
+import static seedu.studmap.commons.util.AppUtil.checkArgument;
+import static seedu.studmap.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Tests that a {@code Student} satisfies all, or any, of a list of criteria. Each criterion is a predicate on
+ * students, which may be negated.
+ */
+public class StudentFilter implements Predicate<Student> {
+
+    private final List<Criterion> criteria;
+    private final boolean isMatchAll;
+
+    /**
+     * Constructs a {@code StudentFilter} that accepts students satisfying all of the {@code criteria} if
+     * {@code isMatchAll}, or any of them otherwise. There must be at least one criterion.
+     */
+    public StudentFilter(List<Criterion> criteria, boolean isMatchAll) {
+        requireAllNonNull(criteria);
+        checkArgument(!criteria.isEmpty(), "A filter needs at least one criterion");
+        this.criteria = List.copyOf(criteria);
+        this.isMatchAll = isMatchAll;
+    }
+
+    public List<Criterion> getCriteria() {
+        return criteria;
+    }
+
+    public boolean isMatchAll() {
+        return isMatchAll;
+    }
+
+    @Override
+    public boolean test(Student student) {
+        for (Criterion criterion : criteria) {
+            if (criterion.test(student) != isMatchAll) {
+                return !isMatchAll;
+            }
+        }
+        return isMatchAll;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof StudentFilter // instanceof handles nulls
+                && criteria.equals(((StudentFilter) other).criteria)
+                && isMatchAll == ((StudentFilter) other).isMatchAll); // state check
+    }
+
+    /**
+     * A predicate on students that a {@code StudentFilter} tests, or whose negation it tests.
+     */
+    public static class Criterion implements Predicate<Student> {
+
+        private final Predicate<Student> predicate;
+        private final boolean isNegated;
+
+        /**
+         * Constructs a {@code Criterion} that tests {@code predicate}, or its negation if {@code isNegated}.
+         */
+        public Criterion(Predicate<Student> predicate, boolean isNegated) {
+            requireAllNonNull(predicate);
+            this.predicate = predicate;
+            this.isNegated = isNegated;
+        }
+
+        public Predicate<Student> getPredicate() {
+            return predicate;
+        }
+
+        public boolean isNegated() {
+            return isNegated;
+        }
+
+        @Override
+        public boolean test(Student student) {
+            return predicate.test(student) != isNegated;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Criterion // instanceof handles nulls
+                    && predicate.equals(((Criterion) other).predicate)
+                    && isNegated == ((Criterion) other).isNegated); // state check
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.studmap.model.student;
+
+import static seedu.studmap.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * An inverted index from keys to the students of a list that have them, such as the words of their names.
+ * The index listens to the list and is updated whenever students are added, replaced or removed, so it always
+ * reflects the current contents of the list. Since it is registered as a listener when created, it is updated
+ * before any view of the list that is created afterwards.
+ * <p>
+ * Students are indexed by reference, so looking up whether a student is in a posting set does not compare
+ * or hash the student's fields.
+ *
+ * @param <K> the type of the keys students are indexed by.
+ */
+public class StudentIndex<K> {
+
+    private final Function<Student, ? extends Collection<K>> keysOf;
+    private final Map<K, Set<Student>> postings = new HashMap<>();
+
+    /**
+     * Creates an index of the students in {@code students}, each of which is indexed by the keys in
+     * {@code keysOf(student)}, and keeps it updated as {@code students} changes.
+     */
+    public StudentIndex(ObservableList<Student> students, Function<Student, ? extends Collection<K>> keysOf) {
+        requireAllNonNull(students, keysOf);
+        this.keysOf = keysOf;
+        students.forEach(this::add);
+        students.addListener(this::onChanged);
+    }
+
+    /**
+     * Returns an unmodifiable view of the students that currently have {@code key}.
+     * Use {@link #contains(Object, Student)} to test students against the index as the list changes.
+     */
+    public Set<Student> get(K key) {
+        Set<Student> students = postings.get(key);
+        return students == null ? Collections.emptySet() : Collections.unmodifiableSet(students);
+    }
+
+    /**
+     * Returns true if {@code student} is indexed under {@code key}.
+     */
+    public boolean contains(K key, Student student) {
+        Set<Student> students = postings.get(key);
+        return students != null && students.contains(student);
+    }
+
+    private void onChanged(ListChangeListener.Change<? extends Student> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::add);
+        }
+    }
+
+    private void add(Student student) {
+        for (K key : keysOf.apply(student)) {
+            postings.computeIfAbsent(key, unused -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                    .add(student);
+        }
+    }
+
+    private void remove(Student student) {
+        for (K key : keysOf.apply(student)) {
+            Set<Student> students = postings.get(key);
+            if (students != null && students.remove(student) && students.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+}
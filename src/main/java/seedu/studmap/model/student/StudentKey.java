@@ -0,0 +1,68 @@
+package seedu.studmap.model.student;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.studmap.commons.util.StringUtil;
+
+/**
+ * Represents the identity of a {@code Student} as a hashable value.
+ * Two students have equal keys if and only if {@link Student#isSameStudent(Student)} holds between them,
+ * so the key can be used in hashed collections in place of linear scans with {@code isSameStudent}.
+ * Guarantees: immutable.
+ */
+public final class StudentKey {
+
+    private final String foldedName;
+    private final String id;
+    private final String module;
+    private final int hash;
+
+    private StudentKey(String foldedName, String id, String module) {
+        this.foldedName = foldedName;
+        this.id = id;
+        this.module = module;
+        this.hash = 31 * (31 * foldedName.hashCode() + id.hashCode()) + module.hashCode();
+    }
+
+    /**
+     * Returns the identity key of {@code student}, which is computed once when the student is created.
+     */
+    public static StudentKey of(Student student) {
+        requireNonNull(student);
+        return student.getKey();
+    }
+
+    /**
+     * Returns the identity key of a student with the given {@code name}, {@code id} and {@code module}.
+     */
+    static StudentKey of(Name name, StudentID id, Module module) {
+        return new StudentKey(StringUtil.foldCase(name.fullName), id.value, module.value);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof StudentKey)) {
+            return false;
+        }
+
+        StudentKey otherKey = (StudentKey) other;
+        return hash == otherKey.hash
+                && foldedName.equals(otherKey.foldedName)
+                && id.equals(otherKey.id)
+                && module.equals(otherKey.module);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return foldedName + "/" + id + "/" + module;
+    }
+}
@@ -0,0 +1,150 @@
+package seedu.studmap.model.student;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.studmap.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.IntBinaryOperator;
+
+/**
+ * Sorts lists of students by a comparator, breaking ties by name and then by student ID.
+ * The sort keys of every student are extracted once into arrays, and an array of positions is sorted over them,
+ * so that comparisons do not recompute keys or box them. The sort is stable.
+ */
+final class StudentSorter {
+
+    /** Runs at most this long are sorted by insertion instead of being split further. */
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    private StudentSorter() {}
+
+    /**
+     * Returns the positions of the students in {@code students} in the order given by {@code comparator}, then by
+     * name, then by student ID, with students that are still tied kept in their order in {@code students}.
+     * If {@code isDescending}, the whole order is reversed.
+     */
+    static int[] sort(List<? extends Student> students, Comparator<Student> comparator, boolean isDescending) {
+        requireAllNonNull(students, comparator);
+        Student[] unsorted = students.toArray(new Student[0]);
+        int size = unsorted.length;
+
+        String[] names = new String[size];
+        String[] ids = new String[size];
+        for (int i = 0; i < size; i++) {
+            names[i] = unsorted[i].getCmpNameString();
+            ids[i] = unsorted[i].getCmpIdString();
+        }
+        IntBinaryOperator tieBreaker = (first, second) -> {
+            int result = compareNullFirst(names[first], names[second]);
+            return result != 0 ? result : compareNullFirst(ids[first], ids[second]);
+        };
+
+        int[] order = sortPositions(size, withPrimaryKey(unsorted, comparator, tieBreaker));
+        if (isDescending) {
+            for (int i = 0, j = size - 1; i < j; i++, j--) {
+                int swapped = order[i];
+                order[i] = order[j];
+                order[j] = swapped;
+            }
+        }
+        return order;
+    }
+
+    /**
+     * Returns {@code comparator} with ties broken by name and then by student ID, as in {@link #sort}.
+     */
+    static Comparator<Student> withTieBreaks(Comparator<Student> comparator) {
+        requireNonNull(comparator);
+        return comparator
+                .thenComparing(Student::getCmpNameString, StudentSorter::compareNullFirst)
+                .thenComparing(Student::getCmpIdString, StudentSorter::compareNullFirst);
+    }
+
+    /**
+     * Returns a comparison of positions in {@code students} that orders them by {@code comparator} and breaks ties
+     * with {@code tieBreaker}. The keys of a {@code SortKeyComparator} are extracted up front.
+     */
+    private static IntBinaryOperator withPrimaryKey(Student[] students, Comparator<Student> comparator,
+            IntBinaryOperator tieBreaker) {
+        if (!(comparator instanceof SortKeyComparator)) {
+            return (first, second) -> {
+                int result = comparator.compare(students[first], students[second]);
+                return result != 0 ? result : tieBreaker.applyAsInt(first, second);
+            };
+        }
+
+        SortKeyComparator keyComparator = (SortKeyComparator) comparator;
+        if (keyComparator.isNumeric()) {
+            double[] keys = new double[students.length];
+            for (int i = 0; i < students.length; i++) {
+                keys[i] = keyComparator.numberKeyOf(students[i]);
+            }
+            return (first, second) -> {
+                int result = Double.compare(keys[first], keys[second]);
+                return result != 0 ? result : tieBreaker.applyAsInt(first, second);
+            };
+        }
+
+        String[] keys = new String[students.length];
+        for (int i = 0; i < students.length; i++) {
+            keys[i] = keyComparator.collationKeyOf(students[i]);
+        }
+        return (first, second) -> {
+            int result = keyComparator.compareCollationKeys(keys[first], keys[second]);
+            return result != 0 ? result : tieBreaker.applyAsInt(first, second);
+        };
+    }
+
+    /**
+     * Returns the positions {@code 0} to {@code size - 1} stably sorted by {@code comparison}.
+     */
+    private static int[] sortPositions(int size, IntBinaryOperator comparison) {
+        int[] positions = new int[size];
+        for (int i = 0; i < size; i++) {
+            positions[i] = i;
+        }
+        mergeSort(positions, new int[size], 0, size, comparison);
+        return positions;
+    }
+
+    private static void mergeSort(int[] positions, int[] buffer, int from, int to, IntBinaryOperator comparison) {
+        if (to - from <= INSERTION_SORT_THRESHOLD) {
+            for (int i = from + 1; i < to; i++) {
+                int current = positions[i];
+                int j = i - 1;
+                while (j >= from && comparison.applyAsInt(positions[j], current) > 0) {
+                    positions[j + 1] = positions[j];
+                    j--;
+                }
+                positions[j + 1] = current;
+            }
+            return;
+        }
+
+        int middle = (from + to) >>> 1;
+        mergeSort(positions, buffer, from, middle, comparison);
+        mergeSort(positions, buffer, middle, to, comparison);
+        if (comparison.applyAsInt(positions[middle - 1], positions[middle]) <= 0) {
+            return;
+        }
+
+        System.arraycopy(positions, from, buffer, from, to - from);
+        int left = from;
+        int right = middle;
+        for (int i = from; i < to; i++) {
+            if (right >= to || (left < middle && comparison.applyAsInt(buffer[left], buffer[right]) <= 0)) {
+                positions[i] = buffer[left++];
+            } else {
+                positions[i] = buffer[right++];
+            }
+        }
+    }
+
+    private static int compareNullFirst(String first, String second) {
+        if (first == null || second == null) {
+            return first == second ? 0 : (first == null ? -1 : 1);
+        }
+        return first.compareTo(second);
+    }
+}
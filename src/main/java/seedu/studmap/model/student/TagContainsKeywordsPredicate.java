@@ -20,6 +20,10 @@ public class TagContainsKeywordsPredicate implements Predicate<Student> {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Student student) {
         Set<Tag> tagSet = student.getTags();
@@ -33,4 +37,10 @@ public class TagContainsKeywordsPredicate implements Predicate<Student> {
         return false;
     }
 
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TagContainsKeywordsPredicate // instanceof handles nulls
+                && keywords.equals(((TagContainsKeywordsPredicate) other).keywords)); // state check
+    }
 }
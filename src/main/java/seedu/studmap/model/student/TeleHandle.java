@@ -17,6 +17,9 @@ public class TeleHandle {
 
     public static final String VALIDATION_REGEX = "^[@][\\p{all}]*";
 
+    /** The empty {@code TeleHandle}, shared by all students without a telegram handle. */
+    public static final TeleHandle EMPTY = new TeleHandle();
+
     public final String value;
 
     /**
@@ -37,6 +40,16 @@ public class TeleHandle {
         this.value = handle;
     }
 
+    /**
+     * Returns the {@code TeleHandle} of {@code handle}, or the shared {@link #EMPTY} one if it is empty.
+     *
+     * @param handle A valid telegram handle.
+     */
+    public static TeleHandle of(String handle) {
+        requireNonNull(handle);
+        return handle.isEmpty() ? EMPTY : new TeleHandle(handle);
+    }
+
     /**
      * Returns string used for display in UI.
      *
@@ -3,9 +3,16 @@ package seedu.studmap.model.student;
 import static java.util.Objects.requireNonNull;
 import static seedu.studmap.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -19,22 +26,50 @@ import seedu.studmap.model.student.exceptions.StudentNotFoundException;
  * or updated is unique in terms of identity in the UniquestudentList. However, the removal of a student uses
  * Student#equals(Object) so as to ensure that the student with exactly the same fields will be removed.
  * <p>
+ * The identity keys of all students in the list are kept in a hash index that maps each key to the position of its
+ * student, so that identity checks, replacements and removals do not need to scan the list. Every mutation of the
+ * list goes through this class and updates the index in the same step. Positions after a removal are refreshed
+ * lazily, the next time a position at or after the removed one is looked up.
+ * <p>
  * Supports a minimal set of list operations.
  *
  * @see Student#isSameStudent(Student)
  */
 public class UniqueStudentList implements Iterable<Student> {
 
+    public static final String MESSAGE_DUPLICATES_FOUND = "Operation would result in duplicate students:";
+    public static final String MESSAGE_DUPLICATE_PAIR = "\n%1$s (%2$s, %3$s) appears at positions %4$d and %5$d";
+
     private final ObservableList<Student> internalList = FXCollections.observableArrayList();
     private final ObservableList<Student> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<StudentKey, Integer> positions = new HashMap<>();
+
+    /** Positions in {@code positions} are only guaranteed to be correct if they are below this value. */
+    private int stalePosition = Integer.MAX_VALUE;
 
     /**
      * Returns true if the list contains an equivalent student as the given argument.
      */
     public boolean contains(Student toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameStudent);
+        return positions.containsKey(toCheck.getKey());
+    }
+
+    /**
+     * Returns the student in the list with the identity {@code key}, if there is one.
+     */
+    public Optional<Student> find(StudentKey key) {
+        requireNonNull(key);
+        Integer position = positions.get(key);
+        if (position == null) {
+            return Optional.empty();
+        }
+        if (position >= stalePosition) {
+            reindexFrom(stalePosition);
+            position = positions.get(key);
+        }
+        return Optional.of(internalList.get(position));
     }
 
     /**
@@ -47,16 +82,32 @@ public class UniqueStudentList implements Iterable<Student> {
             throw new DuplicateStudentException();
         }
         internalList.add(toAdd);
+        positions.put(toAdd.getKey(), internalList.size() - 1);
     }
 
     /**
-     * Sorts the list according to specified attribute and order.
+     * Adds all the students in {@code toAdd} to the end of the list.
+     * None of them may already exist in the list, and no two of them may have the same identity.
+     * The students are validated together in one hashed pass before any of them is added, and are published as a
+     * single change to the list.
      */
-    public void sort(Comparator<Student> comparator, Boolean isDescending) {
-        internalList.sort(comparator.thenComparing(Student::getCmpNameString)
-                .thenComparing(Student::getCmpIdString));
-        if (isDescending) {
-            FXCollections.reverse(internalList);
+    public void addAll(Collection<Student> toAdd) {
+        requireAllNonNull(toAdd);
+
+        Set<StudentKey> incomingKeys = new HashSet<>(toAdd.size() * 2);
+        for (Student student : toAdd) {
+            if (!incomingKeys.add(student.getKey()) || contains(student)) {
+                throw new DuplicateStudentException();
+            }
+        }
+        if (toAdd.isEmpty()) {
+            return;
+        }
+
+        int position = internalList.size();
+        internalList.addAll(toAdd);
+        for (Student student : toAdd) {
+            positions.put(student.getKey(), position++);
         }
     }
 
@@ -68,7 +119,7 @@ public class UniqueStudentList implements Iterable<Student> {
     public void setStudent(Student target, Student editedStudent) {
         requireAllNonNull(target, editedStudent);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new StudentNotFoundException();
         }
@@ -78,6 +129,8 @@ public class UniqueStudentList implements Iterable<Student> {
         }
 
         internalList.set(index, editedStudent);
+        positions.remove(target.getKey());
+        positions.put(editedStudent.getKey(), index);
     }
 
     /**
@@ -86,14 +139,109 @@ public class UniqueStudentList implements Iterable<Student> {
      */
     public void remove(Student toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new StudentNotFoundException();
         }
+        internalList.remove(index);
+        positions.remove(toRemove.getKey());
+        stalePosition = Math.min(stalePosition, index);
+    }
+
+    /**
+     * Removes all the equivalent students in {@code toRemove} from the list.
+     * Every student in {@code toRemove} must exist in the list.
+     * The backing list is compacted in one sweep and the removal is published as a single change to the list.
+     */
+    public void removeAll(Collection<Student> toRemove) {
+        requireAllNonNull(toRemove);
+
+        BitSet removedPositions = new BitSet(internalList.size());
+        for (Student student : toRemove) {
+            int index = indexOf(student);
+            if (index == -1) {
+                throw new StudentNotFoundException();
+            }
+            removedPositions.set(index);
+        }
+        if (removedPositions.isEmpty()) {
+            return;
+        }
+
+        int firstRemoved = removedPositions.nextSetBit(0);
+        if (removedPositions.cardinality() == 1) {
+            internalList.remove(firstRemoved);
+        } else {
+            List<Student> remainingStudents = new ArrayList<>(internalList.size() - removedPositions.cardinality());
+            for (int i = 0; i < internalList.size(); i++) {
+                if (!removedPositions.get(i)) {
+                    remainingStudents.add(internalList.get(i));
+                }
+            }
+            internalList.setAll(remainingStudents);
+        }
+        toRemove.forEach(student -> positions.remove(student.getKey()));
+        stalePosition = Math.min(stalePosition, firstRemoved);
+    }
+
+    /**
+     * Replaces every student that is a key of {@code replacements} with the student it maps to.
+     * Every key must exist in the list, and no two students in the resulting list may have the same identity.
+     * The replacements are validated together in one hashed pass before any of them is applied, and are published
+     * as a single change to the list.
+     */
+    public void setStudents(Map<Student, Student> replacements) {
+        requireNonNull(replacements);
+
+        // each target is kept with its replacement, whatever order the map iterates in
+        int[] indices = new int[replacements.size()];
+        Student[] editedStudents = new Student[replacements.size()];
+        Set<StudentKey> vacatedKeys = new HashSet<>(replacements.size() * 2);
+        int count = 0;
+        for (Map.Entry<Student, Student> replacement : replacements.entrySet()) {
+            Student target = replacement.getKey();
+            Student editedStudent = replacement.getValue();
+            requireAllNonNull(target, editedStudent);
+            int index = indexOf(target);
+            if (index == -1) {
+                throw new StudentNotFoundException();
+            }
+            indices[count] = index;
+            editedStudents[count] = editedStudent;
+            count++;
+            vacatedKeys.add(target.getKey());
+        }
+        Set<StudentKey> incomingKeys = new HashSet<>(replacements.size() * 2);
+        for (Student editedStudent : editedStudents) {
+            StudentKey key = editedStudent.getKey();
+            boolean isTakenByOther = positions.containsKey(key) && !vacatedKeys.contains(key);
+            if (!incomingKeys.add(key) || isTakenByOther) {
+                throw new DuplicateStudentException();
+            }
+        }
+
+        if (editedStudents.length == 1) {
+            internalList.set(indices[0], editedStudents[0]);
+        } else if (editedStudents.length > 1) {
+            Student[] updatedStudents = internalList.toArray(new Student[0]);
+            for (int i = 0; i < editedStudents.length; i++) {
+                updatedStudents[indices[i]] = editedStudents[i];
+            }
+            internalList.setAll(updatedStudents);
+        }
+
+        vacatedKeys.forEach(positions::remove);
+        for (int i = 0; i < editedStudents.length; i++) {
+            positions.put(editedStudents[i].getKey(), indices[i]);
+        }
     }
 
     public void setStudents(UniqueStudentList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        positions.clear();
+        positions.putAll(replacement.positions);
+        stalePosition = replacement.stalePosition;
     }
 
     /**
@@ -102,11 +250,22 @@ public class UniqueStudentList implements Iterable<Student> {
      */
     public void setStudents(List<Student> students) {
         requireAllNonNull(students);
-        if (!studentsAreUnique(students)) {
-            throw new DuplicateStudentException();
-        }
+        Map<StudentKey, Integer> studentPositions = indexUniqueStudents(students);
 
         internalList.setAll(students);
+        positions.clear();
+        positions.putAll(studentPositions);
+        stalePosition = Integer.MAX_VALUE;
+    }
+
+    /**
+     * Returns the position of {@code student} itself in the list, or -1 if that instance is not in the list.
+     * Unlike the other operations of this list, this compares students by reference.
+     */
+    public int positionOf(Student student) {
+        requireNonNull(student);
+        int position = identityPositionOf(student);
+        return position != -1 && internalList.get(position) == student ? position : -1;
     }
 
     /**
@@ -135,16 +294,59 @@ public class UniqueStudentList implements Iterable<Student> {
     }
 
     /**
-     * Returns true if {@code students} contains only unique students.
+     * Returns the position of the student equal to {@code student} in the list, or -1 if there is none.
+     * Only the student with the same identity is compared using {@code Student#equals(Object)}.
      */
-    private boolean studentsAreUnique(List<Student> students) {
-        for (int i = 0; i < students.size() - 1; i++) {
-            for (int j = i + 1; j < students.size(); j++) {
-                if (students.get(i).isSameStudent(students.get(j))) {
-                    return false;
-                }
+    private int indexOf(Student student) {
+        int position = identityPositionOf(student);
+        return position != -1 && internalList.get(position).equals(student) ? position : -1;
+    }
+
+    /**
+     * Returns the position of the student with the same identity as {@code student}, or -1 if there is none.
+     */
+    private int identityPositionOf(Student student) {
+        Integer position = positions.get(student.getKey());
+        if (position == null) {
+            return -1;
+        }
+        if (position >= stalePosition) {
+            reindexFrom(stalePosition);
+            position = positions.get(student.getKey());
+        }
+        return position;
+    }
+
+    /**
+     * Recomputes the positions of all students from {@code start} onwards.
+     */
+    private void reindexFrom(int start) {
+        for (int i = start; i < internalList.size(); i++) {
+            positions.put(internalList.get(i).getKey(), i);
+        }
+        stalePosition = Integer.MAX_VALUE;
+    }
+
+    /**
+     * Returns the position of every student in {@code students}, keyed by identity, in a single hashed pass.
+     *
+     * @throws DuplicateStudentException describing every duplicate pair if {@code students} contains
+     *     students with the same identity.
+     */
+    private static Map<StudentKey, Integer> indexUniqueStudents(List<Student> students) {
+        Map<StudentKey, Integer> firstPositions = new HashMap<>(students.size() * 2);
+        StringBuilder duplicates = new StringBuilder();
+        for (int i = 0; i < students.size(); i++) {
+            Student student = students.get(i);
+            Integer firstPosition = firstPositions.putIfAbsent(student.getKey(), i);
+            if (firstPosition != null) {
+                duplicates.append(String.format(MESSAGE_DUPLICATE_PAIR, student.getName(), student.getId(),
+                        student.getModule(), firstPosition + 1, i + 1));
             }
         }
-        return true;
+        if (duplicates.length() > 0) {
+            throw new DuplicateStudentException(MESSAGE_DUPLICATES_FOUND + duplicates);
+        }
+        return firstPositions;
     }
 }
@@ -8,4 +8,11 @@ public class DuplicateStudentException extends RuntimeException {
     public DuplicateStudentException() {
         super("Operation would result in duplicate students");
     }
+
+    /**
+     * Constructs a {@code DuplicateStudentException} with a {@code message} describing the duplicates found.
+     */
+    public DuplicateStudentException(String message) {
+        super(message);
+    }
 }
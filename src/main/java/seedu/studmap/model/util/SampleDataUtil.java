@@ -33,7 +33,7 @@ public class SampleDataUtil {
         studentData = new StudentData();
         studentData.setName(new Name("Silas Yeo"));
         studentData.setPhone(new Phone("84112213"));
-        studentData.setEmail(new Email());
+        studentData.setEmail(Email.EMPTY);
         studentData.setModule(new Module("CS2106"));
         studentData.setId(new StudentID("E0773771"));
         studentData.setGitUser(new GitName("silasysy"));
@@ -51,7 +51,7 @@ public class SampleDataUtil {
         studentData = new StudentData();
         studentData.setName(new Name("Sally"));
         studentData.setPhone(new Phone("94732221"));
-        studentData.setEmail(new Email());
+        studentData.setEmail(Email.EMPTY);
         studentData.setModule(new Module("CS2106"));
         studentData.setId(new StudentID("E1288122"));
         studentData.setGitUser(new GitName("sallysys"));
@@ -68,7 +68,7 @@ public class SampleDataUtil {
         studentData = new StudentData();
         studentData.setName(new Name("Sheyuan"));
         studentData.setPhone(new Phone("98771923"));
-        studentData.setEmail(new Email());
+        studentData.setEmail(Email.EMPTY);
         studentData.setModule(new Module("CS2106"));
         studentData.setId(new StudentID("E2345229"));
         studentData.setGitUser(new GitName("piyopp"));
@@ -88,11 +88,11 @@ public class SampleDataUtil {
         studentData = new StudentData();
         studentData.setName(new Name("Po Taeto"));
         studentData.setPhone(new Phone("96600302"));
-        studentData.setEmail(new Email());
+        studentData.setEmail(Email.EMPTY);
         studentData.setModule(new Module("CS2103T"));
         studentData.setId(new StudentID("E0982113"));
         studentData.setGitUser(new GitName("potatopo"));
-        studentData.setTeleHandle(new TeleHandle());
+        studentData.setTeleHandle(TeleHandle.EMPTY);
         data.add(studentData);
 
         studentData = new StudentData();
@@ -108,11 +108,11 @@ public class SampleDataUtil {
         studentData = new StudentData();
         studentData.setName(new Name("Tom Aito"));
         studentData.setPhone(new Phone("88456973"));
-        studentData.setEmail(new Email());
+        studentData.setEmail(Email.EMPTY);
         studentData.setModule(new Module("CS2106"));
         studentData.setId(new StudentID("E1728221"));
         studentData.setGitUser(new GitName("tomatoto"));
-        studentData.setTeleHandle(new TeleHandle());
+        studentData.setTeleHandle(TeleHandle.EMPTY);
         data.add(studentData);
 
         return data.stream()
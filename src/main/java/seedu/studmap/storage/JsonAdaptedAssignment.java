@@ -45,7 +45,7 @@ class JsonAdaptedAssignment {
             throw new IllegalArgumentException(Assignment.MESSAGE_CONSTRAINTS);
         }
         Assignment.Status markingStatus = Assignment.Status.fromString(values[1]);
-        return new Assignment(values[0], markingStatus);
+        return Assignment.of(values[0], markingStatus);
     }
 
 }
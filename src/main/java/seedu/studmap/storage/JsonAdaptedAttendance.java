@@ -51,7 +51,7 @@ class JsonAdaptedAttendance {
             throw new IllegalValueException(iae.getMessage());
         }
 
-        return new Attendance(values[0], status);
+        return Attendance.of(values[0], status);
     }
 
 }
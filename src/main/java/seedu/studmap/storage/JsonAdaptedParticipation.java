@@ -51,7 +51,7 @@ class JsonAdaptedParticipation {
             throw new IllegalValueException(iae.getMessage());
         }
 
-        return new Participation(values[0], status);
+        return Participation.of(values[0], status);
     }
 
 }
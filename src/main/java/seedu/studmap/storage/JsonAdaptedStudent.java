@@ -141,7 +141,7 @@ class JsonAdaptedStudent {
         if (!Phone.isValidPhone(phone)) {
             throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
         }
-        final Phone modelPhone = new Phone(phone);
+        final Phone modelPhone = Phone.of(phone);
 
         if (email == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Email.class.getSimpleName()));
@@ -149,7 +149,7 @@ class JsonAdaptedStudent {
         if (!Email.isValidEmail(email)) {
             throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
         }
-        final Email modelEmail = new Email(email);
+        final Email modelEmail = Email.of(email);
 
         if (module == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Module.class.getSimpleName()));
@@ -157,7 +157,7 @@ class JsonAdaptedStudent {
         if (!Module.isValidModule(module)) {
             throw new IllegalValueException(Module.MESSAGE_CONSTRAINTS);
         }
-        final Module modelModule = new Module(module);
+        final Module modelModule = Module.of(module);
 
         if (studentID == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -172,7 +172,7 @@ class JsonAdaptedStudent {
         if (!GitName.isValidGitName(gitName)) {
             throw new IllegalValueException(GitName.MESSAGE_CONSTRAINTS);
         }
-        final GitName modelGit = new GitName(gitName);
+        final GitName modelGit = GitName.of(gitName);
 
         if (handle == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -181,7 +181,7 @@ class JsonAdaptedStudent {
         if (!TeleHandle.isValidTeleHandle(handle)) {
             throw new IllegalValueException(TeleHandle.MESSAGE_CONSTRAINTS);
         }
-        final TeleHandle modelHandle = new TeleHandle(handle);
+        final TeleHandle modelHandle = TeleHandle.of(handle);
 
         final Set<Tag> modelTags = new HashSet<>(studentTags);
         final Set<Attendance> modelAttendances = new HashSet<>(studentAttendances);
@@ -2,16 +2,19 @@ package seedu.studmap.storage;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
+import seedu.studmap.commons.core.LogsCenter;
 import seedu.studmap.commons.exceptions.IllegalValueException;
 import seedu.studmap.model.ReadOnlyStudMap;
 import seedu.studmap.model.StudMap;
 import seedu.studmap.model.student.Student;
+import seedu.studmap.model.student.exceptions.DuplicateStudentException;
 
 /**
  * An Immutable StudMap that is serializable to JSON format.
@@ -21,6 +24,8 @@ class JsonSerializableStudMap {
 
     public static final String MESSAGE_DUPLICATE_STUDENT = "Student list contains duplicate student(s).";
 
+    private static final Logger logger = LogsCenter.getLogger(JsonSerializableStudMap.class);
+
     private final List<JsonAdaptedStudent> students = new ArrayList<>();
 
     /**
@@ -46,13 +51,17 @@ class JsonSerializableStudMap {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public StudMap toModelType() throws IllegalValueException {
-        StudMap studMap = new StudMap();
+        List<Student> modelStudents = new ArrayList<>(students.size());
         for (JsonAdaptedStudent jsonAdaptedStudent : students) {
-            Student student = jsonAdaptedStudent.toModelType();
-            if (studMap.hasStudent(student)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_STUDENT);
-            }
-            studMap.addStudent(student);
+            modelStudents.add(jsonAdaptedStudent.toModelType());
+        }
+
+        StudMap studMap = new StudMap();
+        try {
+            studMap.setStudents(modelStudents);
+        } catch (DuplicateStudentException dse) {
+            logger.warning(dse.getMessage());
+            throw new IllegalValueException(MESSAGE_DUPLICATE_STUDENT, dse);
         }
         return studMap;
     }
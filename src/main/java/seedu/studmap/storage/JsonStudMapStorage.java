@@ -5,6 +5,7 @@ import static java.util.Objects.requireNonNull;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.studmap.commons.core.LogsCenter;
@@ -77,4 +78,18 @@ public class JsonStudMapStorage implements StudMapStorage {
         JsonUtil.saveJsonFile(new JsonSerializableStudMap(studMap), filePath);
     }
 
+    /**
+     * Does nothing, as student maps are written before {@link #saveStudMap(ReadOnlyStudMap)} returns.
+     */
+    @Override
+    public void flushStudMap() {
+    }
+
+    /**
+     * Does nothing, as problems writing a student map are thrown by {@link #saveStudMap(ReadOnlyStudMap)}.
+     */
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> handler) {
+    }
+
 }
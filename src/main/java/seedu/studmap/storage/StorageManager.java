@@ -3,6 +3,7 @@ package seedu.studmap.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.studmap.commons.core.LogsCenter;
@@ -75,4 +76,14 @@ public class StorageManager implements Storage {
         studMapStorage.saveStudMap(studMap, filePath);
     }
 
+    @Override
+    public void flushStudMap() throws IOException {
+        studMapStorage.flushStudMap();
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> handler) {
+        studMapStorage.setSaveFailureHandler(handler);
+    }
+
 }
@@ -3,6 +3,7 @@ package seedu.studmap.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.studmap.commons.exceptions.DataConversionException;
 import seedu.studmap.model.ReadOnlyStudMap;
@@ -43,4 +44,16 @@ public interface StudMapStorage {
      */
     void saveStudMap(ReadOnlyStudMap studMap, Path filePath) throws IOException;
 
+    /**
+     * Blocks until every student map given to {@link #saveStudMap(ReadOnlyStudMap)} is written to the storage.
+     * @throws IOException if there was any problem writing the last of them to the file.
+     */
+    void flushStudMap() throws IOException;
+
+    /**
+     * Sets the {@code handler} of problems writing a student map to the storage that occur after
+     * {@link #saveStudMap(ReadOnlyStudMap)} returned. The handler may be called from any thread.
+     */
+    void setSaveFailureHandler(Consumer<IOException> handler);
+
 }
@@ -0,0 +1,221 @@
+package seedu.studmap.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.studmap.commons.util.AppUtil.checkArgument;
+import static seedu.studmap.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.studmap.commons.core.LogsCenter;
+import seedu.studmap.commons.core.SavePolicy;
+import seedu.studmap.commons.exceptions.DataConversionException;
+import seedu.studmap.commons.util.StringUtil;
+import seedu.studmap.model.ReadOnlyStudMap;
+import seedu.studmap.model.student.Student;
+
+/**
+ * A {@code StudMapStorage} that writes student maps to another {@code StudMapStorage} on a background thread, so that
+ * saving does not wait for the student map to be serialized and written.
+ * <p>
+ * A save takes a snapshot of the student list, which shares the immutable students, and hands it to the writer
+ * thread when the {@link SavePolicy} says so. A snapshot that is not yet written is replaced by any later one, so a
+ * burst of saves is written once. Problems writing a snapshot, including unexpected failures to serialize it, are
+ * given to the save failure handler, and the snapshot is written again by the next {@link #flushStudMap()} unless a
+ * later one is written first.
+ */
+public class WriteBehindStudMapStorage implements StudMapStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindStudMapStorage.class);
+
+    private final StudMapStorage storage;
+    private final SavePolicy savePolicy;
+    private final long saveDelayMillis;
+    private final ScheduledThreadPoolExecutor writer;
+    private final AtomicReference<ReadOnlyStudMap> pendingSnapshot = new AtomicReference<>();
+    private volatile Consumer<IOException> failureHandler = ioe -> { };
+
+    /** Latest snapshot that could not be written, only accessed on the writer thread. */
+    private ReadOnlyStudMap failedSnapshot;
+
+    /** Write of the pending snapshot scheduled by the last debounced save. */
+    private ScheduledFuture<?> scheduledWrite;
+
+    /**
+     * Creates a {@code WriteBehindStudMapStorage} that writes to {@code storage} as {@code savePolicy} says.
+     * {@code saveDelayMillis} is only used by {@link SavePolicy#DEBOUNCED}, and must not be negative.
+     */
+    public WriteBehindStudMapStorage(StudMapStorage storage, SavePolicy savePolicy, long saveDelayMillis) {
+        requireAllNonNull(storage, savePolicy);
+        checkArgument(saveDelayMillis >= 0, "Save delay must not be negative");
+        this.storage = storage;
+        this.savePolicy = savePolicy;
+        this.saveDelayMillis = saveDelayMillis;
+        writer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "StudMap storage writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        writer.setRemoveOnCancelPolicy(true);
+    }
+
+    @Override
+    public Path getStudMapFilePath() {
+        return storage.getStudMapFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyStudMap> readStudMap() throws DataConversionException, IOException {
+        return readStudMap(storage.getStudMapFilePath());
+    }
+
+    /**
+     * Reads the student map at {@code filePath}. If it is the data file, any pending student map is written first.
+     * A failure to write it is given to the save failure handler rather than failing the read.
+     */
+    @Override
+    public Optional<ReadOnlyStudMap> readStudMap(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        if (filePath.equals(storage.getStudMapFilePath())) {
+            try {
+                flushStudMap();
+            } catch (IOException ioe) {
+                logger.warning("Failed to write the student map before reading it: " + StringUtil.getDetails(ioe));
+                failureHandler.accept(ioe);
+            }
+        }
+        return storage.readStudMap(filePath);
+    }
+
+    @Override
+    public void saveStudMap(ReadOnlyStudMap studMap) throws IOException {
+        saveStudMap(studMap, storage.getStudMapFilePath());
+    }
+
+    /**
+     * Saves a snapshot of {@code studMap} to be written in the background if {@code filePath} is the data file.
+     * Student maps saved to any other file are written before this returns.
+     */
+    @Override
+    public synchronized void saveStudMap(ReadOnlyStudMap studMap, Path filePath) throws IOException {
+        requireAllNonNull(studMap, filePath);
+        if (!filePath.equals(storage.getStudMapFilePath())) {
+            storage.saveStudMap(studMap, filePath);
+            return;
+        }
+
+        boolean isWritePending = pendingSnapshot.getAndSet(new Snapshot(studMap)) != null;
+        if (isWritePending) {
+            logger.fine("Replaced a student map that was not yet written");
+        }
+        switch (savePolicy) {
+        case EVERY_COMMAND:
+            if (!isWritePending) {
+                writer.execute(this::writePendingSnapshot);
+            }
+            break;
+        case DEBOUNCED:
+            // every save restarts the delay, so the snapshot is written once the saves stop
+            if (scheduledWrite != null) {
+                scheduledWrite.cancel(false);
+            }
+            scheduledWrite = writer.schedule(this::writePendingSnapshot, saveDelayMillis, TimeUnit.MILLISECONDS);
+            break;
+        case ON_EXIT:
+            break;
+        default:
+            throw new AssertionError(savePolicy);
+        }
+    }
+
+    @Override
+    public void flushStudMap() throws IOException {
+        Future<Void> flush = writer.submit(() -> {
+            ReadOnlyStudMap snapshot = pendingSnapshot.getAndSet(null);
+            write(snapshot != null ? snapshot : failedSnapshot);
+            return null;
+        });
+        try {
+            flush.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while writing the student map", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> handler) {
+        requireNonNull(handler);
+        failureHandler = handler;
+    }
+
+    /**
+     * Writes the pending snapshot, if it was not already written, and reports any problem to the failure handler.
+     * Unexpected failures are reported as an {@code IOException} caused by them, instead of being lost in the
+     * executor.
+     */
+    private void writePendingSnapshot() {
+        try {
+            write(pendingSnapshot.getAndSet(null));
+        } catch (IOException ioe) {
+            logger.warning("Failed to write the student map: " + StringUtil.getDetails(ioe));
+            failureHandler.accept(ioe);
+        } catch (RuntimeException e) {
+            logger.warning("Failed to write the student map: " + StringUtil.getDetails(e));
+            failureHandler.accept(new IOException(e));
+        }
+    }
+
+    private void write(ReadOnlyStudMap snapshot) throws IOException {
+        if (snapshot == null) {
+            return;
+        }
+        try {
+            storage.saveStudMap(snapshot);
+            failedSnapshot = null;
+        } catch (IOException | RuntimeException e) {
+            failedSnapshot = snapshot;
+            throw e;
+        }
+    }
+
+    /**
+     * The students of a student map at the time it was saved.
+     */
+    private static class Snapshot implements ReadOnlyStudMap {
+        private final ObservableList<Student> students;
+        private final long modificationCount;
+
+        Snapshot(ReadOnlyStudMap studMap) {
+            students = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(studMap.getStudentList()));
+            modificationCount = studMap.getModificationCount();
+        }
+
+        @Override
+        public ObservableList<Student> getStudentList() {
+            return students;
+        }
+
+        @Override
+        public long getModificationCount() {
+            return modificationCount;
+        }
+    }
+}
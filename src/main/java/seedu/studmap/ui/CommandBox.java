@@ -6,6 +6,7 @@ import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
 import seedu.studmap.logic.commands.CommandResult;
 import seedu.studmap.logic.commands.exceptions.CommandException;
+import seedu.studmap.logic.exports.exceptions.ExportException;
 import seedu.studmap.logic.imports.exceptions.ImportException;
 import seedu.studmap.logic.parser.exceptions.ParseException;
 
@@ -45,7 +46,7 @@ public class CommandBox extends UiPart<Region> {
         try {
             commandExecutor.execute(commandText);
             commandTextField.setText("");
-        } catch (CommandException | ParseException | ImportException e) {
+        } catch (CommandException | ParseException | ImportException | ExportException e) {
             setStyleToIndicateCommandFailure();
         }
     }
@@ -80,7 +81,8 @@ public class CommandBox extends UiPart<Region> {
          *
          * @see seedu.studmap.logic.Logic#execute(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException, ImportException;
+        CommandResult execute(String commandText)
+                throws CommandException, ParseException, ImportException, ExportException;
     }
 
 }
@@ -2,6 +2,7 @@ package seedu.studmap.ui;
 
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -16,6 +17,9 @@ import seedu.studmap.commons.core.LogsCenter;
 import seedu.studmap.logic.Logic;
 import seedu.studmap.logic.commands.CommandResult;
 import seedu.studmap.logic.commands.exceptions.CommandException;
+import seedu.studmap.logic.exports.ExportOptions;
+import seedu.studmap.logic.exports.exceptions.ExportException;
+import seedu.studmap.logic.imports.ImportOptions;
 import seedu.studmap.logic.imports.exceptions.ImportException;
 import seedu.studmap.logic.parser.exceptions.ParseException;
 
@@ -117,6 +121,7 @@ public class MainWindow extends UiPart<Stage> {
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getStudMapFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
@@ -169,10 +174,22 @@ public class MainWindow extends UiPart<Stage> {
      * Opens the file explorer for the user to choose a file.
      */
     @FXML
-    private String handleChooseFile() throws ImportException {
+    private String handleChooseFile(ImportOptions importOptions) throws ImportException {
         FileChooser fileChooser = new FileChooser();
         fileChooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("CSV files", "*.csv"));
-        return logic.importFile(fileChooser.showOpenDialog(this.primaryStage));
+        return logic.importFile(fileChooser.showOpenDialog(this.primaryStage), importOptions);
+    }
+
+    /**
+     * Opens the file explorer for the user to choose a file to export to.
+     */
+    private String handleSaveFile(ExportOptions exportOptions) throws ExportException {
+        String extension = exportOptions.getFormat().getExtension();
+        FileChooser fileChooser = new FileChooser();
+        fileChooser.getExtensionFilters().add(new FileChooser.ExtensionFilter(
+                extension.toUpperCase() + " files", "*." + extension));
+        fileChooser.setInitialFileName("studmap." + extension);
+        return logic.exportFile(fileChooser.showSaveDialog(this.primaryStage), exportOptions);
     }
 
     public StudentListPanel getStudentListPanel() {
@@ -185,7 +202,7 @@ public class MainWindow extends UiPart<Stage> {
      * @see seedu.studmap.logic.Logic#execute(String)
      */
     private CommandResult executeCommand(String commandText)
-            throws CommandException, ParseException, ImportException {
+            throws CommandException, ParseException, ImportException, ExportException {
         try {
             CommandResult commandResult = logic.execute(commandText);
             logger.info("Result: " + commandResult.getFeedbackToUser());
@@ -200,11 +217,15 @@ public class MainWindow extends UiPart<Stage> {
             }
 
             if (commandResult.isChooseFile()) {
-                resultDisplay.setFeedbackToUser(handleChooseFile());
+                resultDisplay.setFeedbackToUser(handleChooseFile(commandResult.getImportOptions()));
+            }
+
+            if (commandResult.isSaveFile()) {
+                resultDisplay.setFeedbackToUser(handleSaveFile(commandResult.getExportOptions()));
             }
 
             return commandResult;
-        } catch (CommandException | ParseException | ImportException e) {
+        } catch (CommandException | ParseException | ImportException | ExportException e) {
             logger.info("Invalid command: " + commandText);
             resultDisplay.setFeedbackToUser(e.getMessage());
             throw e;
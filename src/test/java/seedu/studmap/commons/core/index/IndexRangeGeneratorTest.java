@@ -0,0 +1,47 @@
+package seedu.studmap.commons.core.index;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.studmap.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class IndexRangeGeneratorTest {
+
+    @Test
+    public void build_overlappingRanges_mergedInAscendingOrder() {
+        IndexRangeGenerator generator = new IndexRangeGenerator.Builder()
+                .addRange(Index.fromOneBased(7), Index.fromOneBased(9))
+                .addIndex(Index.fromOneBased(2))
+                .addRange(Index.fromOneBased(3), Index.fromOneBased(4))
+                .addRange(Index.fromOneBased(8), Index.fromOneBased(10))
+                .build();
+        assertArrayEquals(new int[] {1, 2, 3, 6, 7, 8, 9}, generator.getZeroBasedIndices(null).toArray());
+        assertEquals(Index.fromOneBased(2), generator.apply(null).get(0));
+    }
+
+    @Test
+    public void build_invalidRanges_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new IndexRangeGenerator.Builder().build());
+        assertThrows(IllegalArgumentException.class, () -> new IndexRangeGenerator.Builder()
+                .addRange(Index.fromOneBased(2), Index.fromOneBased(1)));
+    }
+
+    @Test
+    public void equals() {
+        IndexRangeGenerator generator = new IndexRangeGenerator.Builder()
+                .addRange(Index.fromOneBased(1), Index.fromOneBased(3)).build();
+
+        // same indices from different ranges -> returns true
+        assertTrue(generator.equals(new IndexRangeGenerator.Builder()
+                .addRange(Index.fromOneBased(2), Index.fromOneBased(3)).addIndex(Index.fromOneBased(1)).build()));
+
+        // different indices -> returns false
+        assertFalse(generator.equals(new IndexRangeGenerator.Builder().addIndex(Index.fromOneBased(1)).build()));
+
+        // null -> returns false
+        assertFalse(generator.equals(null));
+    }
+}
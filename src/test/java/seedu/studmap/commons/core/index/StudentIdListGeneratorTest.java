@@ -0,0 +1,37 @@
+package seedu.studmap.commons.core.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.studmap.testutil.TypicalStudents.ALICE;
+import static seedu.studmap.testutil.TypicalStudents.BENSON;
+import static seedu.studmap.testutil.TypicalStudents.CARL;
+import static seedu.studmap.testutil.TypicalStudents.getTypicalStudMap;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.studmap.model.Model;
+import seedu.studmap.model.ModelManager;
+import seedu.studmap.model.UserPrefs;
+
+public class StudentIdListGeneratorTest {
+
+    @Test
+    public void apply_unfilteredList_indicesInIdOrder() {
+        Model model = new ModelManager(getTypicalStudMap(), new UserPrefs());
+        StudentIdListGenerator generator = new StudentIdListGenerator(
+                List.of(CARL.getId(), ALICE.getId(), BENSON.getId()));
+
+        assertEquals(List.of(Index.fromOneBased(3), Index.fromOneBased(1), Index.fromOneBased(2)),
+                generator.apply(model));
+    }
+
+    @Test
+    public void apply_filteredList_onlyShownStudents() {
+        Model model = new ModelManager(getTypicalStudMap(), new UserPrefs());
+        model.updateFilteredStudentList(student -> student.equals(BENSON));
+        StudentIdListGenerator generator = new StudentIdListGenerator(List.of(ALICE.getId(), BENSON.getId()));
+
+        assertEquals(List.of(Index.fromOneBased(1)), generator.apply(model));
+    }
+}
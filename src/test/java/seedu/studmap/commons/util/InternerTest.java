@@ -0,0 +1,39 @@
+package seedu.studmap.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.studmap.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.studmap.model.student.Module;
+
+public class InternerTest {
+
+    private final Interner<String, Module> interner = new Interner<>(Module::new);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Interner<String, Module>(null));
+    }
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> interner.intern(null));
+    }
+
+    @Test
+    public void intern_equalKeys_returnsSameInstance() {
+        Module module = interner.intern("CS2103T");
+        assertSame(module, interner.intern(new String("CS2103T")));
+        assertNotSame(module, interner.intern("CS2101"));
+        assertEquals(2, interner.size());
+    }
+
+    @Test
+    public void intern_invalidKey_throwsAndPoolsNothing() {
+        assertThrows(IllegalArgumentException.class, () -> interner.intern("not a module"));
+        assertEquals(0, interner.size());
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.studmap.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.studmap.testutil.Assert.assertThrows;
@@ -123,6 +124,21 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for foldCase --------------------------------------
+
+    @Test
+    public void foldCase_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.foldCase(null));
+    }
+
+    @Test
+    public void foldCase_validInputs_equalIfEqualIgnoringCase() {
+        assertEquals("", StringUtil.foldCase(""));
+        assertEquals("abc def", StringUtil.foldCase("ABc dEF"));
+        assertEquals(StringUtil.foldCase("\u0130stanbul"), StringUtil.foldCase("\u0069stanbul"));
+        assertFalse(StringUtil.foldCase("abc").equals(StringUtil.foldCase("abd")));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
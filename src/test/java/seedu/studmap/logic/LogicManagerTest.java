@@ -14,6 +14,7 @@ import static seedu.studmap.testutil.Assert.assertThrows;
 import static seedu.studmap.testutil.TypicalStudents.AMY;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -24,10 +25,13 @@ import seedu.studmap.logic.commands.AddCommand;
 import seedu.studmap.logic.commands.CommandResult;
 import seedu.studmap.logic.commands.ListCommand;
 import seedu.studmap.logic.commands.exceptions.CommandException;
+import seedu.studmap.logic.imports.ImportCsv;
+import seedu.studmap.logic.imports.ImportOptions;
 import seedu.studmap.logic.parser.exceptions.ParseException;
 import seedu.studmap.model.Model;
 import seedu.studmap.model.ModelManager;
 import seedu.studmap.model.ReadOnlyStudMap;
+import seedu.studmap.model.StudMap;
 import seedu.studmap.model.UserPrefs;
 import seedu.studmap.model.student.Student;
 import seedu.studmap.storage.JsonStudMapStorage;
@@ -91,6 +95,61 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_readOnlyCommand_doesNotSave() throws Exception {
+        // Setup LogicManager with JsonStudMapIoExceptionThrowingStub, which fails any save
+        JsonStudMapStorage studMapStorage =
+                new JsonStudMapIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionStudMap.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(studMapStorage, userPrefsStorage));
+
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+        assertCommandException("delete 9", MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void execute_saveFailed_savesAgainOnNextCommand() {
+        JsonStudMapStorage studMapStorage =
+                new JsonStudMapIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionStudMap.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(studMapStorage, userPrefsStorage));
+
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + MODULE_DESC_AMY + ID_DESC_AMY + GIT_DESC_AMY + HANDLE_DESC_AMY;
+        String expectedMessage = LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
+        assertThrows(CommandException.class, expectedMessage, () -> logic.execute(addCommand));
+
+        // the unsaved change is saved by the next command, even though it changes nothing
+        assertThrows(CommandException.class, expectedMessage, () -> logic.execute(ListCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void importFile_studentsImported_saved() throws Exception {
+        Path csvFile = temporaryFolder.resolve("import.csv");
+        Files.writeString(csvFile, String.join(",", ImportCsv.TEMPLATE_HEADER) + "\r\n"
+                + "Alice,E1234567,CS2103T,,,,\r\n");
+
+        logic.importFile(csvFile.toFile(), ImportOptions.INSERT);
+
+        StudMap savedStudMap = new StudMap(new JsonStudMapStorage(temporaryFolder.resolve("studMap.json"))
+                .readStudMap().get());
+        assertEquals(model.getStudMap(), savedStudMap);
+        assertEquals(1, savedStudMap.getStudentList().size());
+    }
+
+    @Test
+    public void flushStudMap_changesNotSavedByCommand_saved() throws Exception {
+        model.addStudent(AMY);
+
+        logic.flushStudMap();
+
+        StudMap savedStudMap = new StudMap(new JsonStudMapStorage(temporaryFolder.resolve("studMap.json"))
+                .readStudMap().get());
+        assertEquals(model.getStudMap(), savedStudMap);
+    }
+
     @Test
     public void getFilteredStudentList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredStudentList().remove(0));
@@ -9,8 +9,11 @@ import static seedu.studmap.testutil.Assert.assertThrows;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -25,6 +28,8 @@ import seedu.studmap.model.ReadOnlyUserPrefs;
 import seedu.studmap.model.StudMap;
 import seedu.studmap.model.order.Order;
 import seedu.studmap.model.student.Student;
+import seedu.studmap.model.student.StudentID;
+import seedu.studmap.model.student.StudentKey;
 import seedu.studmap.testutil.StudentBuilder;
 
 public class AddCommandTest {
@@ -137,11 +142,21 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void deleteStudents(Collection<Student> targets) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setStudent(Student target, Student editedStudent) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void setStudents(Map<Student, Student> replacements) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Student> getFilteredStudentList() {
             throw new AssertionError("This method should not be called.");
@@ -162,6 +177,31 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Predicate<Student> getIndexedPredicate(Predicate<Student> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Student> findStudent(StudentKey key) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addStudents(Collection<Student> students) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Student> getStudentsWithId(StudentID id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Student> getStudentsMatching(Predicate<Student> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void filterStudentListWithPredicate(Predicate<Student> predicate) {
             throw new AssertionError("This method should not be called.");
@@ -9,17 +9,22 @@ import static seedu.studmap.testutil.TypicalIndexes.INDEX_FIRST_STUDENT;
 import static seedu.studmap.testutil.TypicalIndexes.INDEX_SECOND_STUDENT;
 import static seedu.studmap.testutil.TypicalStudents.getTypicalStudMap;
 
+import java.util.Collections;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.studmap.commons.core.Messages;
 import seedu.studmap.commons.core.index.AllIndexGenerator;
 import seedu.studmap.commons.core.index.Index;
+import seedu.studmap.commons.core.index.IndexRangeGenerator;
 import seedu.studmap.commons.core.index.SingleIndexGenerator;
+import seedu.studmap.commons.core.index.StudentIdListGenerator;
 import seedu.studmap.model.Model;
 import seedu.studmap.model.ModelManager;
 import seedu.studmap.model.StudMap;
 import seedu.studmap.model.UserPrefs;
 import seedu.studmap.model.student.Student;
+import seedu.studmap.model.student.StudentID;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for
@@ -106,6 +111,59 @@ public class DeleteCommandTest {
         assertCommandFailure(deleteCommand, model, Messages.MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX);
     }
 
+    @Test
+    public void execute_indexRangesUnfilteredList_success() {
+        IndexRangeGenerator indexRanges = new IndexRangeGenerator.Builder()
+                .addRange(INDEX_FIRST_STUDENT, INDEX_SECOND_STUDENT)
+                .addIndex(Index.fromOneBased(4))
+                .build();
+        DeleteCommand deleteCommand = new DeleteCommand(indexRanges);
+
+        String expectedMessage = String.format(DeleteCommand.MESSAGE_DELETE_MULTI_STUDENT_SUCCESS, 3);
+
+        ModelManager expectedModel = new ModelManager(model.getStudMap(), new UserPrefs());
+        for (int index : new int[] {0, 1, 3}) {
+            expectedModel.deleteStudent(model.getFilteredStudentList().get(index));
+        }
+
+        assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_indexRangeBeyondFilteredList_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredStudentList().size() + 1);
+        DeleteCommand deleteCommand = new DeleteCommand(
+                new IndexRangeGenerator.Builder().addRange(INDEX_FIRST_STUDENT, outOfBoundIndex).build());
+
+        assertCommandFailure(deleteCommand, model, Messages.MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void execute_studentIdOutsideFilteredList_success() {
+        showStudentAtIndex(model, INDEX_FIRST_STUDENT);
+
+        Student studentToDelete = model.getStudMap().getStudentList().get(INDEX_SECOND_STUDENT.getZeroBased());
+        DeleteCommand deleteCommand = new DeleteCommand(
+                new StudentIdListGenerator(Collections.singletonList(studentToDelete.getId())));
+
+        String expectedMessage = String.format(DeleteCommand.MESSAGE_DELETE_SINGLE_STUDENT_SUCCESS, studentToDelete);
+
+        Model expectedModel = new ModelManager(model.getStudMap(), new UserPrefs());
+        expectedModel.deleteStudent(studentToDelete);
+        showStudentAtIndex(expectedModel, INDEX_FIRST_STUDENT);
+
+        assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_unknownStudentId_throwsCommandException() {
+        StudentID unknownId = new StudentID("E0000000");
+        DeleteCommand deleteCommand = new DeleteCommand(
+                new StudentIdListGenerator(Collections.singletonList(unknownId)));
+
+        assertCommandFailure(deleteCommand, model, String.format(Messages.MESSAGE_UNKNOWN_STUDENT_ID, unknownId));
+    }
+
     @Test
     public void equals() {
         DeleteCommand deleteFirstCommand = new DeleteCommand(new SingleIndexGenerator(INDEX_FIRST_STUDENT));
@@ -1,8 +1,14 @@
 package seedu.studmap.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.studmap.commons.core.Messages.MESSAGE_STUDENTS_LISTED_OVERVIEW;
 import static seedu.studmap.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.studmap.testutil.TypicalStudents.ALICE;
+import static seedu.studmap.testutil.TypicalStudents.BENSON;
+import static seedu.studmap.testutil.TypicalStudents.DANIEL;
+import static seedu.studmap.testutil.TypicalStudents.ELLE;
 import static seedu.studmap.testutil.TypicalStudents.getTypicalStudMap;
 
 import java.util.Arrays;
@@ -14,7 +20,10 @@ import seedu.studmap.model.Model;
 import seedu.studmap.model.ModelManager;
 import seedu.studmap.model.StudMap;
 import seedu.studmap.model.UserPrefs;
+import seedu.studmap.model.student.ClassAttendedPredicate;
+import seedu.studmap.model.student.ComponentParticipatedPredicate;
 import seedu.studmap.model.student.Student;
+import seedu.studmap.model.student.StudentFilter;
 import seedu.studmap.model.student.TagContainsKeywordsPredicate;
 import seedu.studmap.testutil.StudentBuilder;
 
@@ -62,4 +71,40 @@ public class FilterCommandTest {
     private TagContainsKeywordsPredicate preparePredicate(String userInput) {
         return new TagContainsKeywordsPredicate(Arrays.asList(userInput.split("\\s+")));
     }
+
+    @Test
+    public void execute_combinedCriteria_matchingStudentsFound() {
+        String expectedMessage = String.format(MESSAGE_STUDENTS_LISTED_OVERVIEW, 2);
+        StudentFilter filter = new StudentFilter(Arrays.asList(
+                new StudentFilter.Criterion(preparePredicate("friends"), false),
+                new StudentFilter.Criterion(new ClassAttendedPredicate("t01"), true)), true);
+        FilterCommand command = new FilterCommand(filter);
+        expectedModel.filterStudentListWithPredicate(filter);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, DANIEL), model.getFilteredStudentList());
+    }
+
+    @Test
+    public void execute_studentEditedAfterFilter_filterStillApplies() throws Exception {
+        StudentFilter filter = new StudentFilter(Arrays.asList(
+                new StudentFilter.Criterion(preparePredicate("friends"), false),
+                new StudentFilter.Criterion(new ComponentParticipatedPredicate("P01"), false)), false);
+        new FilterCommand(filter).execute(model);
+        assertEquals(Arrays.asList(ALICE, BENSON, DANIEL), model.getFilteredStudentList());
+
+        Student editedAlice = new StudentBuilder(ALICE).withTags().build();
+        Student editedElle = new StudentBuilder(ELLE).withTags("friends").build();
+        model.setStudent(ALICE, editedAlice);
+        model.setStudent(ELLE, editedElle);
+        assertEquals(Arrays.asList(BENSON, DANIEL, editedElle), model.getFilteredStudentList());
+    }
+
+    @Test
+    public void equals() {
+        FilterCommand filterFriends = new FilterCommand(preparePredicate("friends"));
+        assertTrue(filterFriends.equals(filterFriends));
+        assertTrue(filterFriends.equals(new FilterCommand(preparePredicate("friends"))));
+        assertFalse(filterFriends.equals(new FilterCommand(preparePredicate("family"))));
+        assertFalse(filterFriends.equals(null));
+    }
 }
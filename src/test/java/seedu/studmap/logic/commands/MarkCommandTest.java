@@ -6,17 +6,22 @@ import static seedu.studmap.logic.commands.CommandTestUtil.showStudentAtIndex;
 import static seedu.studmap.testutil.TypicalIndexes.INDEX_FIRST_STUDENT;
 import static seedu.studmap.testutil.TypicalStudents.getTypicalStudMap;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.studmap.commons.core.Messages;
 import seedu.studmap.commons.core.index.AllIndexGenerator;
 import seedu.studmap.commons.core.index.Index;
+import seedu.studmap.commons.core.index.PredicateListGenerator;
 import seedu.studmap.commons.core.index.SingleIndexGenerator;
 import seedu.studmap.model.Model;
 import seedu.studmap.model.ModelManager;
 import seedu.studmap.model.UserPrefs;
 import seedu.studmap.model.student.Attendance;
 import seedu.studmap.model.student.Student;
+import seedu.studmap.model.student.TagContainsKeywordsPredicate;
 import seedu.studmap.testutil.StudentBuilder;
 
 
@@ -65,6 +70,38 @@ class MarkCommandTest {
         assertCommandSuccess(markCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_whereClauseOutsideFilteredList_success() {
+        Index indexOfCarl = Index.fromOneBased(3);
+        showStudentAtIndex(model, indexOfCarl);
+
+        TagContainsKeywordsPredicate friends = new TagContainsKeywordsPredicate(Collections.singletonList("friends"));
+        Attendance attendance = new Attendance("T04", Attendance.Status.PRESENT);
+        MarkCommand markCommand = new MarkCommand(new PredicateListGenerator(friends),
+                new MarkCommand.MarkCommandStudentEditor(attendance));
+
+        ModelManager expectedModel = new ModelManager(model.getStudMap(), new UserPrefs());
+        List<Student> friendsToMark = model.getStudMap().getStudentList().filtered(friends);
+        for (Student studentToMark : friendsToMark) {
+            expectedModel.setStudent(studentToMark, new StudentBuilder(studentToMark).addAttended("T04").build());
+        }
+        showStudentAtIndex(expectedModel, indexOfCarl);
+
+        String expectedMessage = String.format(MarkCommand.MESSAGE_MARK_MULTI_SUCCESS_ATTENDANCE,
+                friendsToMark.size(), attendance.getString());
+        assertCommandSuccess(markCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_whereClauseWithoutMatches_failure() {
+        Attendance attendance = new Attendance("T04", Attendance.Status.PRESENT);
+        MarkCommand markCommand = new MarkCommand(new PredicateListGenerator(
+                new TagContainsKeywordsPredicate(Collections.singletonList("nobody"))),
+                new MarkCommand.MarkCommandStudentEditor(attendance));
+
+        assertCommandFailure(markCommand, model, Messages.MESSAGE_NO_MATCHING_STUDENTS);
+    }
+
     @Test
     public void execute_invalidstudentIndexUnfilteredList_failure() {
         Index outOfBoundIndex = Index.fromOneBased(model.getFilteredStudentList().size() + 1);
@@ -0,0 +1,39 @@
+package seedu.studmap.logic.exports;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.studmap.logic.imports.CsvReader;
+
+public class CsvWriterTest {
+
+    @Test
+    public void writeField_plainFields_writtenAsIs() throws IOException {
+        StringWriter output = new StringWriter();
+        try (CsvWriter writer = new CsvWriter(output)) {
+            writer.writeFields("a", "b", "", "c");
+            writer.endRecord();
+            writer.writeField("last");
+            writer.endRecord();
+        }
+        assertEquals("a,b,,c\r\nlast\r\n", output.toString());
+    }
+
+    @Test
+    public void writeField_specialCharacters_quotedAndReadBack() throws IOException {
+        String[] fields = {"Tan, Ah Kow", "say \"hi\"", "two\nlines", "plain"};
+        StringWriter output = new StringWriter();
+        try (CsvWriter writer = new CsvWriter(output)) {
+            writer.writeFields(fields);
+            writer.endRecord();
+        }
+        assertEquals("\"Tan, Ah Kow\",\"say \"\"hi\"\"\",\"two\nlines\",plain\r\n", output.toString());
+        assertArrayEquals(fields, new CsvReader(new StringReader(output.toString())).readRecord());
+    }
+}
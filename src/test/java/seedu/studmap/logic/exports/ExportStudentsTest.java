@@ -0,0 +1,107 @@
+package seedu.studmap.logic.exports;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.studmap.logic.exports.ExportStudents.EXPORT_SUCCESS;
+import static seedu.studmap.logic.exports.ExportStudents.FILE_IS_NULL;
+import static seedu.studmap.testutil.Assert.assertThrows;
+import static seedu.studmap.testutil.TypicalStudents.ALICE;
+import static seedu.studmap.testutil.TypicalStudents.BENSON;
+import static seedu.studmap.testutil.TypicalStudents.CARL;
+import static seedu.studmap.testutil.TypicalStudents.getTypicalStudMap;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import seedu.studmap.logic.exports.ExportOptions.Format;
+import seedu.studmap.logic.exports.exceptions.ExportException;
+import seedu.studmap.logic.imports.ImportCsv;
+import seedu.studmap.logic.imports.exceptions.ImportException;
+import seedu.studmap.model.Model;
+import seedu.studmap.model.ModelManager;
+import seedu.studmap.model.UserPrefs;
+import seedu.studmap.model.student.Student;
+
+public class ExportStudentsTest {
+
+    @TempDir
+    public Path tempDir;
+
+    private final Model model = new ModelManager(getTypicalStudMap(), new UserPrefs());
+    private final ExportStudents exporter = new ExportStudents();
+
+    private static String getContactFields(Student student) {
+        return String.join(",", student.getName().fullName, student.getId().value, student.getModule().value,
+                student.getPhone().value, student.getEmail().value, student.getGitName().value,
+                student.getTeleHandle().value);
+    }
+
+    @Test
+    public void execute_nullFile_throwsExportException() {
+        assertThrows(ExportException.class, FILE_IS_NULL, () -> exporter.execute(model, null, ExportOptions.CSV));
+    }
+
+    @Test
+    public void execute_filteredListAsCsv_importedBack() throws Exception {
+        model.updateFilteredStudentList(student -> student.isSameStudent(ALICE) || student.isSameStudent(BENSON));
+        Path file = tempDir.resolve("students.csv");
+
+        assertEquals(String.format(EXPORT_SUCCESS, 2, "students.csv"),
+                exporter.execute(model, file.toFile(), ExportOptions.CSV));
+
+        assertEquals(String.join(",", ImportCsv.TEMPLATE_HEADER) + "\r\n"
+                + getContactFields(ALICE) + "\r\n"
+                + getContactFields(BENSON) + "\r\n", Files.readString(file));
+
+        Model importedModel = new ModelManager();
+        assertEquals("", new ImportCsv().execute(importedModel, file.toFile()));
+        assertEquals(List.of(ALICE.getKey(), BENSON.getKey()),
+                List.of(importedModel.getFilteredStudentList().get(0).getKey(),
+                        importedModel.getFilteredStudentList().get(1).getKey()));
+        assertEquals(List.of(getContactFields(ALICE), getContactFields(BENSON)),
+                List.of(getContactFields(importedModel.getFilteredStudentList().get(0)),
+                        getContactFields(importedModel.getFilteredStudentList().get(1))));
+    }
+
+    @Test
+    public void execute_selectionWithRecordsAsCsv_writesMatrix() throws Exception {
+        Path file = tempDir.resolve("records.csv");
+        ExportOptions options = new ExportOptions(Format.CSV, true,
+                student -> student.isSameStudent(BENSON) || student.isSameStudent(CARL));
+
+        exporter.execute(model, file.toFile(), options);
+
+        assertEquals(String.join(",", ImportCsv.TEMPLATE_HEADER)
+                + ",c/T01,c/T02,c/T03,p/P01,a/A01,a/A02,a/A03,a/A04\r\n"
+                + getContactFields(BENSON) + ",present,present,absent,yes,,,,\r\n"
+                + getContactFields(CARL) + ",,,,,marked,marked,received,new\r\n", Files.readString(file));
+
+        // the record columns are not in the import template
+        assertThrows(ImportException.class, ImportCsv.CSV_WRONG_FORMAT, () ->
+                new ImportCsv().execute(new ModelManager(), file.toFile()));
+    }
+
+    @Test
+    public void execute_withRecordsAsJson_writesArrayOfStudents() throws Exception {
+        Path file = tempDir.resolve("students.json");
+
+        exporter.execute(model, file.toFile(), new ExportOptions(Format.JSON, true, null));
+
+        JsonNode students = new ObjectMapper().readTree(file.toFile());
+        assertEquals(model.getFilteredStudentList().size(), students.size());
+        JsonNode benson = students.get(1);
+        assertEquals(BENSON.getId().value, benson.get("studentID").asText());
+        assertEquals("present", benson.get("attended").get("T01").asText());
+        assertEquals("absent", benson.get("attended").get("T03").asText());
+        assertEquals("yes", benson.get("participations").get("P01").asText());
+        assertEquals(0, benson.get("assignments").size());
+        assertEquals(2, benson.get("tagged").size());
+        assertEquals("received", students.get(2).get("assignments").get("A03").asText());
+    }
+}
@@ -0,0 +1,37 @@
+package seedu.studmap.logic.imports;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvReaderTest {
+
+    @Test
+    public void readRecord_plainFields_splitOnCommas() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("a,b,,c\r\n,\nlast"));
+        assertArrayEquals(new String[] {"a", "b", "", "c"}, reader.readRecord());
+        assertArrayEquals(new String[] {"", ""}, reader.readRecord());
+        assertArrayEquals(new String[] {"last"}, reader.readRecord());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    public void readRecord_quotedFields_keepSeparatorsAndEscapedQuotes() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("\"Tan, Ah Kow\",\"say \"\"hi\"\"\",\"two\nlines\"\n"
+                + "\"\"\n"));
+        assertArrayEquals(new String[] {"Tan, Ah Kow", "say \"hi\"", "two\nlines"}, reader.readRecord());
+        assertArrayEquals(new String[] {""}, reader.readRecord());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    public void readRecord_unclosedQuote_endsRecord() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("a,\"b,c\nd"));
+        assertArrayEquals(new String[] {"a", "b,c\nd"}, reader.readRecord());
+        assertNull(reader.readRecord());
+    }
+}
@@ -3,20 +3,26 @@ package seedu.studmap.logic.imports;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.studmap.logic.imports.ImportCsv.CSV_WRONG_FORMAT;
+import static seedu.studmap.logic.imports.ImportCsv.DRY_RUN_SUMMARY;
 import static seedu.studmap.logic.imports.ImportCsv.DUPLICATE_STUDENT;
 import static seedu.studmap.logic.imports.ImportCsv.FILE_DOES_NOT_EXIST;
 import static seedu.studmap.logic.imports.ImportCsv.FILE_IS_NULL;
 import static seedu.studmap.logic.imports.ImportCsv.FILE_NOT_CSV;
+import static seedu.studmap.logic.imports.ImportCsv.IMPORT_SUMMARY;
 import static seedu.studmap.logic.imports.ImportCsv.MISSING_COMPULSORY_ATTRIBUTE;
+import static seedu.studmap.logic.imports.ImportCsv.UPDATED_STUDENT;
 import static seedu.studmap.testutil.Assert.assertThrows;
 import static seedu.studmap.testutil.TypicalStudents.getTypicalStudMap;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import seedu.studmap.logic.imports.exceptions.ImportException;
 import seedu.studmap.model.Model;
@@ -31,6 +37,7 @@ import seedu.studmap.model.student.Student;
 import seedu.studmap.model.student.StudentData;
 import seedu.studmap.model.student.StudentID;
 import seedu.studmap.model.student.TeleHandle;
+import seedu.studmap.testutil.StudentBuilder;
 
 class ImportCsvTest {
 
@@ -74,6 +81,122 @@ class ImportCsvTest {
 
     }
 
+    @Test
+    public void execute_rowsDuplicatingModel_loggedAndFilterReset() throws ImportException {
+        Model model = new ModelManager();
+        StudentData existingData = new StudentData();
+        existingData.setName(new Name("Silas Yeo"));
+        existingData.setId(new StudentID("E0773771"));
+        existingData.setModule(new Module("CS2106"));
+        model.addStudent(new Student(existingData));
+        model.updateFilteredStudentList(student -> false);
+
+        String output = importer.execute(model, openFile("validFormat.csv"));
+
+        assertTrue(output.startsWith(String.format(DUPLICATE_STUDENT, 2) + String.format(DUPLICATE_STUDENT, 9)));
+        assertEquals(7, model.getStudMap().getStudentList().size());
+        assertEquals(7, model.getFilteredStudentList().size());
+    }
+
+    @Test
+    public void execute_manyQuotedRows_importedInOrder(@TempDir Path tempDir) throws Exception {
+        int rowCount = 3000;
+        StringBuilder csv = new StringBuilder("name,studentid,module,phone,email,github,telegram\r\n");
+        for (int i = 0; i < rowCount; i++) {
+            csv.append(String.format("\"Student %d\",E%07d,CS2103T,,,,\r\n", i, i));
+        }
+        // a duplicate of the first row, in a later chunk than the row it duplicates
+        csv.append("\"Student 0\",E0000000,CS2103T,,,,\r\n");
+        Path file = tempDir.resolve("many.csv");
+        Files.writeString(file, csv);
+
+        Model model = new ModelManager();
+        String output = importer.execute(model, file.toFile());
+
+        assertEquals(String.format(DUPLICATE_STUDENT, rowCount + 2), output);
+        assertEquals(rowCount, model.getStudMap().getStudentList().size());
+        for (int i = 0; i < rowCount; i++) {
+            assertEquals("Student " + i, model.getStudMap().getStudentList().get(i).getName().fullName);
+        }
+    }
+
+    @Test
+    public void execute_shortRows_missingAttributesLoggedAndLaterRowsImported(@TempDir Path tempDir)
+            throws Exception {
+        Path file = tempDir.resolve("short.csv");
+        Files.writeString(file, "name,studentid,module,phone,email,github,telegram\r\n"
+                + "Alice\r\n"
+                + "Carl,E1234567\r\n"
+                + "Bob,E7654321,CS2103T\r\n");
+
+        Model model = new ModelManager();
+        String output = importer.execute(model, file.toFile());
+
+        assertEquals(String.format(MISSING_COMPULSORY_ATTRIBUTE, 2, ImportCsv.Attributes.STUDENTID)
+                + String.format(MISSING_COMPULSORY_ATTRIBUTE, 3, ImportCsv.Attributes.MODULE), output);
+        assertEquals(1, model.getStudMap().getStudentList().size());
+        assertEquals("Bob", model.getStudMap().getStudentList().get(0).getName().fullName);
+    }
+
+    @Test
+    public void execute_upsert_updatesContactDetailsAndKeepsRecords() throws ImportException {
+        Model model = new ModelManager();
+        Student silas = new StudentBuilder().withName("Silas Yeo").withId("E0773771").withModule("CS2106")
+                .withPhone("81234567").withGitName("silasysy").addAttended("T01").build();
+        Student sally = new StudentBuilder().withName("Sally").withId("E1288122").withModule("CS2106")
+                .withPhone("94732221").withGitName("sallysys").build();
+        model.addStudent(silas);
+        model.addStudent(sally);
+
+        String output = importer.execute(model, openFile("validFormat.csv"), new ImportOptions(true, false));
+
+        String expectedOutput = String.format(UPDATED_STUDENT, 2, ImportCsv.Attributes.PHONE)
+                + String.format(DUPLICATE_STUDENT, 9)
+                + String.format(MISSING_COMPULSORY_ATTRIBUTE, 10, ImportCsv.Attributes.NAME)
+                + String.format(MISSING_COMPULSORY_ATTRIBUTE, 11, ImportCsv.Attributes.STUDENTID)
+                + String.format(MISSING_COMPULSORY_ATTRIBUTE, 12, ImportCsv.Attributes.MODULE)
+                + String.format(IMPORT_SUMMARY, 5, 1, 1);
+        assertEquals(expectedOutput, output);
+        assertEquals(7, model.getStudMap().getStudentList().size());
+
+        Student updatedSilas = model.findStudent(silas.getKey()).get();
+        assertEquals(new Phone("84112213"), updatedSilas.getPhone());
+        assertTrue(updatedSilas.hasAttended("T01"));
+        assertEquals(sally, model.findStudent(sally.getKey()).get());
+    }
+
+    @Test
+    public void execute_upsertOnlyUpdating_filterKept(@TempDir Path tempDir) throws Exception {
+        Path file = tempDir.resolve("update.csv");
+        Files.writeString(file, "name,studentid,module,phone,email,github,telegram\r\n"
+                + "Silas Yeo,E0773771,CS2106,84112213,,,\r\n");
+        Model model = new ModelManager();
+        Student silas = new StudentBuilder().withName("Silas Yeo").withId("E0773771").withModule("CS2106")
+                .withPhone("81234567").build();
+        model.addStudent(silas);
+        model.addStudent(new StudentBuilder().withName("Sally").withId("E1288122").withModule("CS2106").build());
+        model.updateFilteredStudentList(student -> student.getName().fullName.equals("Sally"));
+
+        importer.execute(model, file.toFile(), new ImportOptions(true, false));
+
+        assertEquals(new Phone("84112213"), model.findStudent(silas.getKey()).get().getPhone());
+        assertEquals(1, model.getFilteredStudentList().size());
+    }
+
+    @Test
+    public void execute_dryRun_reportsWithoutChanges() throws ImportException {
+        Model model = new ModelManager();
+        Student silas = new StudentBuilder().withName("Silas Yeo").withId("E0773771").withModule("CS2106")
+                .withPhone("81234567").build();
+        model.addStudent(silas);
+
+        String output = importer.execute(model, openFile("validFormat.csv"), new ImportOptions(true, true));
+
+        assertTrue(output.startsWith(String.format(UPDATED_STUDENT, 2, "PHONE, GITHUB")));
+        assertTrue(output.endsWith(String.format(DRY_RUN_SUMMARY, 6, 1, 0)));
+        assertEquals(Collections.singletonList(silas), model.getStudMap().getStudentList());
+    }
+
     @Test
     public void execute_importSuccess() {
 
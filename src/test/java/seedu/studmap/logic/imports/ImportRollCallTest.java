@@ -0,0 +1,147 @@
+package seedu.studmap.logic.imports;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.studmap.logic.imports.ImportRollCall.DRY_RUN_SUMMARY;
+import static seedu.studmap.logic.imports.ImportRollCall.INVALID_STATUS;
+import static seedu.studmap.logic.imports.ImportRollCall.INVALID_STUDENT;
+import static seedu.studmap.logic.imports.ImportRollCall.ROLL_CALL_SUMMARY;
+import static seedu.studmap.logic.imports.ImportRollCall.ROLL_CALL_WRONG_FORMAT;
+import static seedu.studmap.logic.imports.ImportRollCall.UNKNOWN_STUDENT;
+import static seedu.studmap.testutil.Assert.assertThrows;
+import static seedu.studmap.testutil.TypicalStudents.ALICE;
+import static seedu.studmap.testutil.TypicalStudents.BENSON;
+import static seedu.studmap.testutil.TypicalStudents.CARL;
+import static seedu.studmap.testutil.TypicalStudents.getTypicalStudMap;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.ListChangeListener;
+import seedu.studmap.logic.imports.exceptions.ImportException;
+import seedu.studmap.model.Model;
+import seedu.studmap.model.ModelManager;
+import seedu.studmap.model.UserPrefs;
+import seedu.studmap.model.student.Assignment;
+import seedu.studmap.model.student.Student;
+import seedu.studmap.testutil.StudentBuilder;
+
+class ImportRollCallTest {
+
+    private static final ImportOptions ROLL_CALL = new ImportOptions(false, false, true);
+    private static final ImportOptions ROLL_CALL_DRY_RUN = new ImportOptions(false, true, true);
+
+    @TempDir
+    public Path tempDir;
+
+    private final Model model = new ModelManager(getTypicalStudMap(), new UserPrefs());
+    private final ImportRollCall importer = new ImportRollCall();
+
+    private File writeRollCall(String content) throws IOException {
+        Path file = tempDir.resolve("rollcall.csv");
+        Files.writeString(file, content);
+        return file.toFile();
+    }
+
+    @Test
+    public void execute_wrongHeader_throwsImportException() throws IOException {
+        File noRecordColumns = writeRollCall("studentid\r\n");
+        assertThrows(ImportException.class, ROLL_CALL_WRONG_FORMAT, () ->
+                importer.execute(model, noRecordColumns, ROLL_CALL));
+
+        File noStudentId = writeRollCall("name,c/T01\r\n");
+        assertThrows(ImportException.class, ROLL_CALL_WRONG_FORMAT, () ->
+                importer.execute(model, noStudentId, ROLL_CALL));
+
+        File unknownPrefix = writeRollCall("studentid,x/T01\r\n");
+        assertThrows(ImportException.class, ROLL_CALL_WRONG_FORMAT, () ->
+                importer.execute(model, unknownPrefix, ROLL_CALL));
+
+        File invalidClassName = writeRollCall("studentid,c/T01!\r\n");
+        assertThrows(ImportException.class, ROLL_CALL_WRONG_FORMAT, () ->
+                importer.execute(model, invalidClassName, ROLL_CALL));
+    }
+
+    @Test
+    public void execute_validRollCall_recordsInSingleChange() throws Exception {
+        File file = writeRollCall("studentid,c/T01,p/P02,a/A01\r\n"
+                + ALICE.getIdString() + ",present,YES,marked\r\n"
+                + BENSON.getIdString() + ",present,,\r\n"
+                + "E9999999,absent,no,new\r\n"
+                + " ,absent,no,new\r\n"
+                + CARL.getIdString() + ",maybe,,marked\r\n");
+        List<ListChangeListener.Change<? extends Student>> changes = new ArrayList<>();
+        model.getStudMap().getStudentList().addListener((ListChangeListener<Student>) changes::add);
+
+        String output = importer.execute(model, file, ROLL_CALL);
+
+        String expectedOutput = String.format(UNKNOWN_STUDENT, 4)
+                + String.format(INVALID_STUDENT, 5)
+                + String.format(INVALID_STATUS, 6, "maybe", "c/T01")
+                + String.format(ROLL_CALL_SUMMARY, 1, 2);
+        assertEquals(expectedOutput, output);
+        assertEquals(1, changes.size());
+
+        Student updatedAlice = model.getStudentsWithId(ALICE.getId()).get(0);
+        assertTrue(updatedAlice.hasAttended("T01"));
+        assertTrue(updatedAlice.hasParticipated("P02"));
+        assertTrue(updatedAlice.getAssignments().stream()
+                .anyMatch(assignment -> assignment.strongEquals(Assignment.of("A01", Assignment.Status.MARKED))));
+        assertEquals(ALICE.getTags(), updatedAlice.getTags());
+    }
+
+    @Test
+    public void execute_dryRun_reportsWithoutChanges() throws Exception {
+        File file = writeRollCall("studentid,c/T09\r\n"
+                + ALICE.getIdString() + ",absent\r\n"
+                + BENSON.getIdString() + ",present\r\n");
+
+        String output = importer.execute(model, file, ROLL_CALL_DRY_RUN);
+
+        assertEquals(String.format(DRY_RUN_SUMMARY, 2, 0), output);
+        assertEquals(getTypicalStudMap().getStudentList(), model.getStudMap().getStudentList());
+        assertFalse(model.getStudentsWithId(BENSON.getId()).get(0).hasAttended("T09"));
+    }
+
+    @Test
+    public void execute_laterRowRevertsCell_studentUnchanged() throws Exception {
+        Model model = new ModelManager();
+        Student student = new StudentBuilder().withId("E0000001").addNotAttended("T01").addAssignedNew("A01").build();
+        model.addStudent(student);
+        File file = writeRollCall("studentid,c/T01,a/A01\r\n"
+                + "E0000001,present,marked\r\n"
+                + "E0000001,absent,new\r\n");
+
+        String output = importer.execute(model, file, ROLL_CALL);
+
+        assertEquals(String.format(ROLL_CALL_SUMMARY, 0, 1), output);
+        assertSame(student, model.findStudent(student.getKey()).get());
+    }
+
+    @Test
+    public void execute_moduleColumn_onlyStudentInModuleUpdated() throws Exception {
+        Model model = new ModelManager();
+        Student inCs2103t = new StudentBuilder().withId("E0000001").withModule("CS2103T").build();
+        Student inCs2106 = new StudentBuilder().withId("E0000001").withModule("CS2106").build();
+        model.addStudent(inCs2103t);
+        model.addStudent(inCs2106);
+        File file = writeRollCall("studentid,module,c/T01\r\n"
+                + "E0000001,cs2106,present\r\n"
+                + "E0000001,CS1101S,present\r\n");
+
+        String output = importer.execute(model, file, ROLL_CALL);
+
+        assertEquals(String.format(UNKNOWN_STUDENT, 3) + String.format(ROLL_CALL_SUMMARY, 1, 0), output);
+        assertFalse(model.findStudent(inCs2103t.getKey()).get().hasAttended("T01"));
+        assertTrue(model.findStudent(inCs2106.getKey()).get().hasAttended("T01"));
+    }
+}
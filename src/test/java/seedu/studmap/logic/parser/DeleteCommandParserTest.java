@@ -4,12 +4,19 @@ import static seedu.studmap.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT
 import static seedu.studmap.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.studmap.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static seedu.studmap.testutil.TypicalIndexes.INDEX_FIRST_STUDENT;
+import static seedu.studmap.testutil.TypicalIndexes.INDEX_SECOND_STUDENT;
+
+import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.studmap.commons.core.index.AllIndexGenerator;
+import seedu.studmap.commons.core.index.Index;
+import seedu.studmap.commons.core.index.IndexRangeGenerator;
 import seedu.studmap.commons.core.index.SingleIndexGenerator;
+import seedu.studmap.commons.core.index.StudentIdListGenerator;
 import seedu.studmap.logic.commands.DeleteCommand;
+import seedu.studmap.model.student.StudentID;
 
 /**
  * As we are only doing white-box testing, our test cases do not cover path variations
@@ -26,10 +33,16 @@ public class DeleteCommandParserTest {
     public void parse_validArgs_returnsDeleteCommand() {
         assertParseSuccess(parser, "1", new DeleteCommand(new SingleIndexGenerator(INDEX_FIRST_STUDENT)));
         assertParseSuccess(parser, "all", new DeleteCommand(new AllIndexGenerator()));
+        assertParseSuccess(parser, "1-2,4", new DeleteCommand(new IndexRangeGenerator.Builder()
+                .addRange(INDEX_FIRST_STUDENT, INDEX_SECOND_STUDENT).addIndex(Index.fromOneBased(4)).build()));
+        assertParseSuccess(parser, "#E1234561,E1234562,,E1234561", new DeleteCommand(new StudentIdListGenerator(
+                Arrays.asList(new StudentID("E1234561"), new StudentID("E1234562")))));
     }
 
     @Test
     public void parse_invalidArgs_throwsParseException() {
         assertParseFailure(parser, "a", String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "#,", String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "3-1", String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE));
     }
 }
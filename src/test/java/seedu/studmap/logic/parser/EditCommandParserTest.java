@@ -210,4 +210,24 @@ public class EditCommandParserTest {
 
         assertParseSuccess(parser, userInput, expectedCommand);
     }
+
+    @Test
+    public void parse_valuesContainingWhere_success() {
+        Index targetIndex = INDEX_FIRST_STUDENT;
+
+        // where not followed by a filter criterion is part of the name
+        String userInput = targetIndex.getOneBased() + " n/Ann Where Smith";
+        EditCommandStudentEditor editor = new EditStudentDescriptorBuilder().withName("Ann Where Smith").build();
+        assertParseSuccess(parser, userInput, new EditCommand(new SingleIndexGenerator(targetIndex), editor));
+
+        // where at the end of the name, followed by a prefix that is not a filter criterion
+        userInput = targetIndex.getOneBased() + " n/Ann where" + EMAIL_DESC_AMY;
+        editor = new EditStudentDescriptorBuilder().withName("Ann where").withEmail(VALID_EMAIL_AMY).build();
+        assertParseSuccess(parser, userInput, new EditCommand(new SingleIndexGenerator(targetIndex), editor));
+
+        // where as a tag
+        userInput = targetIndex.getOneBased() + " t/where";
+        editor = new EditStudentDescriptorBuilder().withTags("where").build();
+        assertParseSuccess(parser, userInput, new EditCommand(new SingleIndexGenerator(targetIndex), editor));
+    }
 }
@@ -0,0 +1,46 @@
+package seedu.studmap.logic.parser;
+
+import static seedu.studmap.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.studmap.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.studmap.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.studmap.logic.commands.ExportCommand;
+import seedu.studmap.logic.exports.ExportOptions;
+import seedu.studmap.logic.exports.ExportOptions.Format;
+import seedu.studmap.model.student.ModuleContainsKeywordsPredicate;
+import seedu.studmap.model.student.StudentFilter;
+
+public class ExportCommandParserTest {
+
+    private ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsExportCommand() {
+        assertParseSuccess(parser, "  ", new ExportCommand());
+        assertParseSuccess(parser, " csv", new ExportCommand());
+        assertParseSuccess(parser, " RECORDS json", new ExportCommand(new ExportOptions(Format.JSON, true, null)));
+    }
+
+    @Test
+    public void parse_whereClause_returnsExportCommand() {
+        StudentFilter filter = new StudentFilter(Arrays.asList(
+                new StudentFilter.Criterion(new ModuleContainsKeywordsPredicate(Arrays.asList("CS2103T")), false)),
+                true);
+        assertParseSuccess(parser, " where m/CS2103T", new ExportCommand(new ExportOptions(Format.CSV, false, filter)));
+        assertParseSuccess(parser, " json records WHERE m/CS2103T",
+                new ExportCommand(new ExportOptions(Format.JSON, true, filter)));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " all", expectedMessage);
+        assertParseFailure(parser, " csv json", expectedMessage);
+        assertParseFailure(parser, " records records", expectedMessage);
+        assertParseFailure(parser, " json where", expectedMessage);
+    }
+}
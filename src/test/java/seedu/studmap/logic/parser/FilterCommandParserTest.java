@@ -2,10 +2,19 @@ package seedu.studmap.logic.parser;
 
 import static seedu.studmap.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.studmap.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.studmap.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.studmap.logic.commands.FilterCommand;
+import seedu.studmap.model.student.ClassAttendedPredicate;
+import seedu.studmap.model.student.ComponentParticipatedPredicate;
+import seedu.studmap.model.student.ModuleContainsKeywordsPredicate;
+import seedu.studmap.model.student.StudentFilter;
+import seedu.studmap.model.student.TagContainsKeywordsPredicate;
 
 
 public class FilterCommandParserTest {
@@ -18,11 +27,33 @@ public class FilterCommandParserTest {
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
     }
 
-    /*@Test
-    public void parse_validArgs_returnsFilterCommand() {
-        // no leading and trailing whitespaces
-        assertParseSuccess(parser, "friends colleagues",
-                new FilterCommand(new TagContainsKeywordsPredicate(Arrays.asList("friends", "colleagues"))));
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE);
 
-    }*/
+        // unknown preamble
+        assertParseFailure(parser, " some t/friends", expectedMessage);
+
+        // criterion without keywords
+        assertParseFailure(parser, " t/", expectedMessage);
+        assertParseFailure(parser, " t/friends c/!", expectedMessage);
+    }
+
+    @Test
+    public void parse_validArgs_returnsFilterCommand() {
+        // single criterion
+        assertParseSuccess(parser, " t/friends colleagues",
+                new FilterCommand(new StudentFilter(Collections.singletonList(new StudentFilter.Criterion(
+                        new TagContainsKeywordsPredicate(Arrays.asList("friends", "colleagues")), false)),
+                        true)));
+
+        // multiple criteria matched with any, with negation
+        assertParseSuccess(parser, " any m/CS2103T c/!T01 p/P01",
+                new FilterCommand(new StudentFilter(Arrays.asList(
+                        new StudentFilter.Criterion(
+                                new ModuleContainsKeywordsPredicate(Collections.singletonList("CS2103T")), false),
+                        new StudentFilter.Criterion(new ClassAttendedPredicate("T01"), true),
+                        new StudentFilter.Criterion(new ComponentParticipatedPredicate("P01"), false)),
+                        false)));
+    }
 }
@@ -0,0 +1,32 @@
+package seedu.studmap.logic.parser;
+
+import static seedu.studmap.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.studmap.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.studmap.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.studmap.logic.commands.ImportCommand;
+import seedu.studmap.logic.imports.ImportOptions;
+
+public class ImportCommandParserTest {
+
+    private ImportCommandParser parser = new ImportCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsImportCommand() {
+        assertParseSuccess(parser, "  ", new ImportCommand());
+        assertParseSuccess(parser, " upsert", new ImportCommand(new ImportOptions(true, false)));
+        assertParseSuccess(parser, " DRYRUN upsert", new ImportCommand(new ImportOptions(true, true)));
+        assertParseSuccess(parser, " dryrun", new ImportCommand(new ImportOptions(false, true)));
+        assertParseSuccess(parser, " rollcall DryRun", new ImportCommand(new ImportOptions(false, true, true)));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " all", expectedMessage);
+        assertParseFailure(parser, " upsert upsert", expectedMessage);
+        assertParseFailure(parser, " rollcall upsert", expectedMessage);
+    }
+}
@@ -5,11 +5,19 @@ import static seedu.studmap.logic.parser.CommandParserTestUtil.assertParseFailur
 import static seedu.studmap.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static seedu.studmap.testutil.TypicalIndexes.INDEX_FIRST_STUDENT;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.studmap.commons.core.index.PredicateListGenerator;
 import seedu.studmap.commons.core.index.SingleIndexGenerator;
+import seedu.studmap.commons.core.index.StudentIdListGenerator;
 import seedu.studmap.logic.commands.MarkCommand;
 import seedu.studmap.model.student.Attendance;
+import seedu.studmap.model.student.ClassAttendedPredicate;
+import seedu.studmap.model.student.ModuleContainsKeywordsPredicate;
+import seedu.studmap.model.student.StudentFilter;
+import seedu.studmap.model.student.StudentID;
 
 
 public class MarkCommandParserTest {
@@ -23,6 +31,27 @@ public class MarkCommandParserTest {
                 new MarkCommand(new SingleIndexGenerator(INDEX_FIRST_STUDENT),
                         new MarkCommand.MarkCommandStudentEditor(
                                 new Attendance(className, Attendance.Status.ABSENT))));
+        assertParseSuccess(parser, "#E1234561,E1234562 present c/" + className,
+                new MarkCommand(new StudentIdListGenerator(
+                        Arrays.asList(new StudentID("E1234561"), new StudentID("E1234562"))),
+                        new MarkCommand.MarkCommandStudentEditor(
+                                new Attendance(className, Attendance.Status.PRESENT))));
+    }
+
+    @Test
+    public void parse_whereClause_returnsMarkCommand() {
+        StudentFilter filter = new StudentFilter(Arrays.asList(
+                new StudentFilter.Criterion(new ModuleContainsKeywordsPredicate(Arrays.asList("CS2103T")), false),
+                new StudentFilter.Criterion(new ClassAttendedPredicate("T01"), true)), true);
+        assertParseSuccess(parser, "present c/T02 WHERE m/CS2103T c/!T01",
+                new MarkCommand(new PredicateListGenerator(filter),
+                        new MarkCommand.MarkCommandStudentEditor(
+                                new Attendance("T02", Attendance.Status.PRESENT))));
+
+        assertParseFailure(parser, "present c/T02 where",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, MarkCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "1 present c/T02 where m/CS2103T",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, MarkCommand.MESSAGE_USAGE));
     }
 
     @Test
@@ -3,6 +3,7 @@ package seedu.studmap.logic.parser;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.studmap.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
+import static seedu.studmap.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX_RANGE;
 import static seedu.studmap.testutil.Assert.assertThrows;
 import static seedu.studmap.testutil.TypicalIndexes.INDEX_FIRST_STUDENT;
 
@@ -13,6 +14,8 @@ import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.studmap.commons.core.index.Index;
+import seedu.studmap.commons.core.index.IndexRangeGenerator;
 import seedu.studmap.logic.parser.exceptions.ParseException;
 import seedu.studmap.model.student.Email;
 import seedu.studmap.model.student.Name;
@@ -53,6 +56,24 @@ public class ParserUtilTest {
         assertEquals(INDEX_FIRST_STUDENT, ParserUtil.parseIndex("  1  "));
     }
 
+    @Test
+    public void parseIndexRanges_validInput_success() throws Exception {
+        IndexRangeGenerator expected = new IndexRangeGenerator.Builder()
+                .addRange(Index.fromOneBased(1), Index.fromOneBased(200))
+                .addIndex(Index.fromOneBased(305))
+                .addRange(Index.fromOneBased(410), Index.fromOneBased(420))
+                .build();
+        assertEquals(expected, ParserUtil.parseIndexRanges(" 1-200,305,410-420 "));
+    }
+
+    @Test
+    public void parseIndexRanges_invalidInput_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX_RANGE, () -> ParserUtil.parseIndexRanges("5-3"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX_RANGE, () -> ParserUtil.parseIndexRanges("1-2-3"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexRanges("1,,2"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexRanges("0-2"));
+    }
+
     @Test
     public void parseName_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseName((String) null));
@@ -6,18 +6,29 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.studmap.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.studmap.testutil.Assert.assertThrows;
 import static seedu.studmap.testutil.TypicalStudents.ALICE;
+import static seedu.studmap.testutil.TypicalStudents.BENSON;
 import static seedu.studmap.testutil.TypicalStudents.getTypicalStudMap;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.studmap.model.student.AssignmentContainsKeywordsPredicate;
+import seedu.studmap.model.student.ClassAttendedPredicate;
+import seedu.studmap.model.student.ComponentParticipatedPredicate;
+import seedu.studmap.model.student.ModuleContainsKeywordsPredicate;
+import seedu.studmap.model.student.NameContainsKeywordsPredicate;
 import seedu.studmap.model.student.Student;
+import seedu.studmap.model.student.StudentFilter;
+import seedu.studmap.model.student.StudentID;
+import seedu.studmap.model.student.TagContainsKeywordsPredicate;
 import seedu.studmap.model.student.exceptions.DuplicateStudentException;
 import seedu.studmap.testutil.StudentBuilder;
 
@@ -77,6 +88,111 @@ public class StudMapTest {
         assertTrue(studMap.hasStudent(editedAlice));
     }
 
+    @Test
+    public void getIndexedPredicate_namePredicate_followsStudentChanges() {
+        studMap.addStudent(ALICE);
+        Predicate<Student> alicePredicate = studMap.getIndexedPredicate(
+                new NameContainsKeywordsPredicate(Arrays.asList("bob", "aLIce")));
+        Predicate<Student> tanPredicate = studMap.getIndexedPredicate(
+                new NameContainsKeywordsPredicate(Collections.singletonList("TAN")));
+        assertTrue(alicePredicate.test(ALICE));
+        assertFalse(tanPredicate.test(ALICE));
+
+        Student editedAlice = new StudentBuilder(ALICE).withName("Alice Tan").build();
+        studMap.setStudent(ALICE, editedAlice);
+        assertTrue(alicePredicate.test(editedAlice));
+        assertTrue(tanPredicate.test(editedAlice));
+        assertFalse(alicePredicate.test(ALICE));
+
+        studMap.removeStudent(editedAlice);
+        assertFalse(alicePredicate.test(editedAlice));
+    }
+
+    @Test
+    public void getIndexedPredicate_keywordPredicates_matchUnindexedPredicates() {
+        StudMap typicalStudMap = getTypicalStudMap();
+        List<Predicate<Student>> predicates = Arrays.asList(
+                new NameContainsKeywordsPredicate(Arrays.asList("Kurz", "elle", "Ali")),
+                new TagContainsKeywordsPredicate(Arrays.asList("FRIENDS", "owesMoney")),
+                new ModuleContainsKeywordsPredicate(Collections.singletonList("cs2103t")),
+                new AssignmentContainsKeywordsPredicate(Arrays.asList("a01", "A02")));
+        for (Predicate<Student> predicate : predicates) {
+            Predicate<Student> indexedPredicate = typicalStudMap.getIndexedPredicate(predicate);
+            for (Student student : typicalStudMap.getStudentList()) {
+                assertEquals(predicate.test(student), indexedPredicate.test(student));
+            }
+        }
+    }
+
+    @Test
+    public void getIndexedPredicate_studentFilter_matchesUnindexedFilter() {
+        StudMap typicalStudMap = getTypicalStudMap();
+        List<StudentFilter.Criterion> criteria = Arrays.asList(
+                new StudentFilter.Criterion(new TagContainsKeywordsPredicate(Arrays.asList("friends")), false),
+                new StudentFilter.Criterion(new ClassAttendedPredicate("T02"), true),
+                new StudentFilter.Criterion(new ComponentParticipatedPredicate("p01"), false),
+                new StudentFilter.Criterion(student -> student.getAssignmentCount() > 0, false));
+        for (boolean isMatchAll : new boolean[] {true, false}) {
+            StudentFilter filter = new StudentFilter(criteria, isMatchAll);
+            Predicate<Student> indexedFilter = typicalStudMap.getIndexedPredicate(filter);
+            for (Student student : typicalStudMap.getStudentList()) {
+                assertEquals(filter.test(student), indexedFilter.test(student));
+            }
+        }
+    }
+
+    @Test
+    public void getStudentsWithId_studentsWithSameIdInDifferentModules_returnsAllInOrder() {
+        Student aliceInAnotherModule = new StudentBuilder(ALICE).withModule("CS2101").build();
+        studMap.addStudent(ALICE);
+        studMap.addStudent(BENSON);
+        studMap.addStudent(aliceInAnotherModule);
+        assertEquals(Arrays.asList(ALICE, aliceInAnotherModule), studMap.getStudentsWithId(ALICE.getId()));
+        assertEquals(Collections.singletonList(BENSON), studMap.getStudentsWithId(BENSON.getId()));
+
+        studMap.removeStudent(ALICE);
+        assertEquals(Collections.singletonList(aliceInAnotherModule), studMap.getStudentsWithId(ALICE.getId()));
+        assertEquals(Collections.emptyList(), studMap.getStudentsWithId(new StudentID("E0000000")));
+    }
+
+    @Test
+    public void getStudentsMatching_filtersAndPredicates_matchUnindexedPredicates() {
+        StudMap typicalStudMap = getTypicalStudMap();
+        List<Predicate<Student>> predicates = Arrays.asList(
+                new TagContainsKeywordsPredicate(Arrays.asList("friends")),
+                new StudentFilter(Arrays.asList(
+                        new StudentFilter.Criterion(new ClassAttendedPredicate("T01"), false),
+                        new StudentFilter.Criterion(new NameContainsKeywordsPredicate(Arrays.asList("Alice")), false)),
+                        false),
+                student -> student.getAssignmentCount() > 0);
+        for (Predicate<Student> predicate : predicates) {
+            assertEquals(typicalStudMap.getStudentList().filtered(predicate),
+                    typicalStudMap.getStudentsMatching(predicate));
+        }
+    }
+
+    @Test
+    public void getIndexedPredicate_otherPredicate_returnsSamePredicate() {
+        Predicate<Student> predicate = student -> true;
+        assertEquals(predicate, studMap.getIndexedPredicate(predicate));
+    }
+
+    @Test
+    public void getModificationCount_countsOnlyChanges() {
+        long initialCount = studMap.getModificationCount();
+        studMap.addStudents(List.of());
+        studMap.setStudents(Map.of());
+        studMap.removeStudents(List.of());
+        assertEquals(initialCount, studMap.getModificationCount());
+
+        studMap.addStudent(ALICE);
+        long countAfterAdd = studMap.getModificationCount();
+        assertTrue(countAfterAdd > initialCount);
+
+        studMap.setStudent(ALICE, new StudentBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build());
+        assertTrue(studMap.getModificationCount() > countAfterAdd);
+    }
+
     @Test
     public void getStudentList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> studMap.getStudentList().remove(0));
@@ -96,6 +212,11 @@ public class StudMapTest {
         public ObservableList<Student> getStudentList() {
             return students;
         }
+
+        @Override
+        public long getModificationCount() {
+            return 0;
+        }
     }
 
 }
@@ -1,6 +1,9 @@
 package seedu.studmap.model.student;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.studmap.testutil.Assert.assertThrows;
 
@@ -35,4 +38,20 @@ public class AttendanceTest {
         assertTrue(Attendance.isValidClassName("T01_2-"));
         assertTrue(Attendance.isValidClassName("L3-4"));
     }
+
+    @Test
+    public void of_sameClassNameAndStatus_returnsSharedInstance() {
+        Attendance present = Attendance.of("T01", Attendance.Status.PRESENT);
+        assertSame(present, Attendance.of("T01", Attendance.Status.PRESENT));
+        assertNotSame(present, Attendance.of("T01", Attendance.Status.ABSENT));
+        assertEquals(Attendance.Status.ABSENT, Attendance.of("T01", Attendance.Status.ABSENT).state);
+
+        // different case -> equal, with the spelling given
+        Attendance lowerCase = Attendance.of("t01", Attendance.Status.PRESENT);
+        assertEquals(present, lowerCase);
+        assertEquals(present.hashCode(), lowerCase.hashCode());
+        assertEquals("t01", lowerCase.identifier);
+
+        assertThrows(IllegalArgumentException.class, () -> Attendance.of("!", Attendance.Status.PRESENT));
+    }
 }
@@ -0,0 +1,49 @@
+package seedu.studmap.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.studmap.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class IdentifierDictionaryTest {
+
+    private final IdentifierDictionary dictionary = new IdentifierDictionary();
+
+    @Test
+    public void encode_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> dictionary.encode(null));
+    }
+
+    @Test
+    public void encode_sameIdentifierIgnoringCase_sameCode() {
+        int code = dictionary.encode("Tutorial 1");
+        assertEquals(code, dictionary.encode("TUTORIAL 1"));
+        assertEquals(code, dictionary.find("tutorial 1"));
+        assertNotEquals(code, dictionary.encode("Tutorial 2"));
+
+        // first spelling is kept
+        assertEquals("Tutorial 1", dictionary.decode(code));
+    }
+
+    @Test
+    public void encode_manyIdentifiers_allDecoded() {
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, dictionary.encode("T" + i));
+        }
+        for (int i = 0; i < 100; i++) {
+            assertEquals("T" + i, dictionary.decode(i));
+        }
+    }
+
+    @Test
+    public void find_unknownIdentifier_returnsMinusOne() {
+        assertEquals(-1, dictionary.find("T01"));
+    }
+
+    @Test
+    public void decode_unknownCode_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> dictionary.decode(0));
+        assertThrows(IllegalArgumentException.class, () -> dictionary.decode(-1));
+    }
+}
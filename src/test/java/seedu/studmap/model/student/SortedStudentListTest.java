@@ -0,0 +1,170 @@
+package seedu.studmap.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.studmap.testutil.Assert.assertThrows;
+import static seedu.studmap.testutil.TypicalStudents.ALICE;
+import static seedu.studmap.testutil.TypicalStudents.BENSON;
+import static seedu.studmap.testutil.TypicalStudents.BOB;
+import static seedu.studmap.testutil.TypicalStudents.CARL;
+import static seedu.studmap.testutil.TypicalStudents.DANIEL;
+import static seedu.studmap.testutil.TypicalStudents.getTypicalStudents;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.studmap.testutil.StudentBuilder;
+
+public class SortedStudentListTest {
+
+    private final ObservableList<Student> source = FXCollections.observableArrayList();
+    private final SortedStudentList sortedStudents = new SortedStudentList(source);
+
+    @Test
+    public void setComparator_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> sortedStudents.setComparator(null, false));
+    }
+
+    @Test
+    public void unsorted_followsSourceOrder() {
+        source.setAll(CARL, ALICE, BOB);
+        assertEquals(Arrays.asList(CARL, ALICE, BOB), sortedStudents);
+
+        source.remove(ALICE);
+        source.add(0, DANIEL);
+        assertEquals(Arrays.asList(DANIEL, CARL, BOB), sortedStudents);
+    }
+
+    @Test
+    public void setComparator_numberKey_tiesBrokenByName() {
+        Student carl = new StudentBuilder(CARL).setAttended(new HashSet<>()).addAttended("T01").build();
+        Student alice = new StudentBuilder(ALICE).setAttended(new HashSet<>()).addAttended("T01").build();
+        Student bob = new StudentBuilder(BOB).setAttended(new HashSet<>()).addNotAttended("T01").build();
+        source.setAll(carl, bob, alice);
+
+        sortedStudents.setComparator(SortKeyComparator.comparingNumber(Student::getAttendancePercentageForAsc), false);
+        assertEquals(Arrays.asList(bob, alice, carl), sortedStudents);
+
+        sortedStudents.setComparator(SortKeyComparator.comparingNumber(Student::getAttendancePercentageForDsc), true);
+        assertEquals(Arrays.asList(carl, alice, bob), sortedStudents);
+
+        // source list keeps its order
+        assertEquals(Arrays.asList(carl, bob, alice), source);
+    }
+
+    @Test
+    public void setComparator_textKey_ignoresCaseAndPlacesMissingKeysLast() {
+        Student lowerCase = new StudentBuilder(ALICE).withEmail("alice@example.com").build();
+        Student upperCase = new StudentBuilder(BOB).withEmail("BOB@example.com").build();
+        Student noEmail = new StudentBuilder(CARL).withEmail("").build();
+        source.setAll(noEmail, upperCase, lowerCase);
+
+        sortedStudents.setComparator(SortKeyComparator.comparingText(Student::getCmpEmailString, false), false);
+        assertEquals(Arrays.asList(lowerCase, upperCase, noEmail), sortedStudents);
+
+        sortedStudents.setComparator(SortKeyComparator.comparingText(Student::getCmpEmailString, true), true);
+        assertEquals(Arrays.asList(upperCase, lowerCase, noEmail), sortedStudents);
+    }
+
+    @Test
+    public void setComparator_anyComparator_publishesSinglePermutation() {
+        source.setAll(CARL, ALICE, BOB);
+        List<ListChangeListener.Change<? extends Student>> changes = recordChanges();
+
+        sortedStudents.setComparator(Comparator.comparing(Student::getNameString), true);
+        assertEquals(Arrays.asList(CARL, BOB, ALICE), sortedStudents);
+        assertEquals(1, changes.size());
+        assertTrue(changes.get(0).next());
+        assertTrue(changes.get(0).wasPermutated());
+    }
+
+    @Test
+    public void sourceChanged_studentEdited_onlyEditedStudentMoves() {
+        source.setAll(ALICE, BENSON, CARL, DANIEL);
+        sortedStudents.setComparator(SortKeyComparator.comparingText(Student::getCmpNameString, false), false);
+        List<ListChangeListener.Change<? extends Student>> changes = recordChanges();
+
+        Student editedAlice = new StudentBuilder(ALICE).withName("Carla Zed").build();
+        source.set(0, editedAlice);
+        assertEquals(Arrays.asList(BENSON, CARL, editedAlice, DANIEL), sortedStudents);
+
+        assertEquals(1, changes.size());
+        ListChangeListener.Change<? extends Student> change = changes.get(0);
+        int changedStudents = 0;
+        while (change.next()) {
+            assertFalse(change.wasPermutated());
+            changedStudents += change.getAddedSize() + change.getRemovedSize();
+        }
+        assertEquals(2, changedStudents);
+    }
+
+    @Test
+    public void sourceChanged_studentAdded_insertedInSortedPosition() {
+        source.setAll(CARL, ALICE, DANIEL);
+        sortedStudents.setComparator(SortKeyComparator.comparingText(Student::getCmpNameString, true), true);
+
+        source.add(BENSON);
+        assertEquals(Arrays.asList(DANIEL, CARL, BENSON, ALICE), sortedStudents);
+
+        source.remove(CARL);
+        assertEquals(Arrays.asList(DANIEL, BENSON, ALICE), sortedStudents);
+        assertEquals(source.indexOf(BENSON), sortedStudents.getSourceIndex(1));
+    }
+
+    @Test
+    public void getViewIndex_sourceChanged_inverseOfSourceIndex() {
+        source.setAll(CARL, ALICE, DANIEL, BENSON);
+        sortedStudents.setComparator(SortKeyComparator.comparingText(Student::getCmpNameString, false), false);
+        assertViewIndicesMatchSourceIndices();
+
+        source.set(1, new StudentBuilder(ALICE).withName("Zack").build());
+        assertViewIndicesMatchSourceIndices();
+
+        source.add(0, BOB);
+        source.remove(DANIEL);
+        assertViewIndicesMatchSourceIndices();
+
+        FXCollections.sort(source, Comparator.comparing(Student::getCmpNameString).reversed());
+        assertViewIndicesMatchSourceIndices();
+        assertEquals(-1, sortedStudents.getViewIndex(source.size()));
+    }
+
+    @Test
+    public void sourceChanged_manyStudentsAdded_resorted() {
+        sortedStudents.setComparator(SortKeyComparator.comparingText(Student::getCmpNameString, false), false);
+        List<Student> students = new ArrayList<>();
+        for (int i = 40; i > 0; i--) {
+            students.add(new StudentBuilder().withName("Student " + (char) ('A' + i % 26) + i).build());
+        }
+        source.setAll(students);
+
+        students.sort(StudentSorter.withTieBreaks(
+                SortKeyComparator.comparingText(Student::getCmpNameString, false)));
+        assertEquals(students, sortedStudents);
+
+        source.setAll(getTypicalStudents());
+        assertEquals(getTypicalStudents(), sortedStudents);
+    }
+
+    private void assertViewIndicesMatchSourceIndices() {
+        assertEquals(source.size(), sortedStudents.size());
+        for (int i = 0; i < sortedStudents.size(); i++) {
+            assertEquals(i, sortedStudents.getViewIndex(sortedStudents.getSourceIndex(i)));
+        }
+    }
+
+    private List<ListChangeListener.Change<? extends Student>> recordChanges() {
+        List<ListChangeListener.Change<? extends Student>> changes = new ArrayList<>();
+        sortedStudents.addListener((ListChangeListener<Student>) changes::add);
+        return changes;
+    }
+}
@@ -2,6 +2,7 @@ package seedu.studmap.model.student;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.studmap.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
 import static seedu.studmap.logic.commands.CommandTestUtil.VALID_HANDLE_BOB;
@@ -12,6 +13,7 @@ import static seedu.studmap.testutil.Assert.assertThrows;
 import static seedu.studmap.testutil.TypicalStudents.ALICE;
 import static seedu.studmap.testutil.TypicalStudents.BOB;
 
+import java.util.List;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
@@ -130,4 +132,166 @@ public class StudentTest {
         assertEquals(student.getTags(), tags);
         assertEquals(student.getAttendances(), attendances);
     }
+
+    @Test
+    public void getStatistics_recordsChanged_statisticsUpdated() {
+        Student student = new StudentBuilder().addAttended("T01", "T02").addNotAttended("T03", "T04")
+                .addAssignedMarked("A01").addAssignedReceived("A02").addAssignedNew("A03").build();
+        assertEquals(50f, student.getAttendancePercentage());
+        assertEquals(50f, student.getAttendancePercentageForAsc());
+        assertEquals(1, student.getAssignmentMarkedCount());
+        assertEquals(1, student.getAssignmentUnmarkedCount());
+        assertEquals(3, student.getAssignmentCount());
+
+        // statistics of an edited student are computed from its new records
+        Student editedStudent = student.withAttendance(new Attendance("T03", Attendance.Status.PRESENT))
+                .withAssignment(Assignment.of("A02", Assignment.Status.MARKED));
+        assertEquals(75f, editedStudent.getAttendancePercentage());
+        assertEquals(2, editedStudent.getAssignmentMarkedCount());
+        assertEquals(0, editedStudent.getAssignmentUnmarkedCount());
+        assertEquals(50f, student.getAttendancePercentage());
+
+        // no records -> sorted to the end in either order
+        Student emptyStudent = new StudentBuilder().build();
+        assertTrue(Float.isNaN(emptyStudent.getAttendancePercentage()));
+        assertEquals(Float.MAX_VALUE, emptyStudent.getParticipationPercentageForAsc());
+        assertEquals(-Float.MIN_VALUE, emptyStudent.getParticipationPercentageForDsc());
+        assertEquals(Integer.MIN_VALUE, emptyStudent.getAssignmentMarkedCountForDsc());
+    }
+
+    @Test
+    public void getAttendances_decodedFromBitsets() {
+        Student student = new StudentBuilder().addAttended("T01").addNotAttended("T02")
+                .addParticipations("P01").addNotParticipated("P02").build();
+
+        Set<Attendance> attendances = student.getAttendances();
+        assertEquals(Set.of(new Attendance("T01", Attendance.Status.PRESENT),
+                new Attendance("T02", Attendance.Status.ABSENT)), attendances);
+        assertTrue(attendances.stream().allMatch(attendance -> attendance.state
+                == (attendance.identifier.equals("T01") ? Attendance.Status.PRESENT : Attendance.Status.ABSENT)));
+        assertTrue(student.getParticipations().stream().allMatch(participation -> participation.state
+                == (participation.identifier.equals("P01")
+                ? Participation.Status.PARTICIPATED
+                : Participation.Status.NOT_PARTICIPATED)));
+
+        // the view is built once
+        assertSame(attendances, student.getAttendances());
+        assertThrows(UnsupportedOperationException.class, () -> attendances.clear());
+
+        assertTrue(student.hasAttended("t01"));
+        assertFalse(student.hasAttended("T02"));
+        assertFalse(student.hasAttended("T99"));
+        assertTrue(student.hasParticipated("P01"));
+        assertFalse(student.hasParticipated("P02"));
+    }
+
+    @Test
+    public void getAttendances_spellingsDifferingInCase_eachKeptUnchanged() {
+        Student lower = new StudentBuilder().addAttended("lab7").build()
+                .withParticipation(new Participation("quiz9", Participation.Status.PARTICIPATED));
+        Student upper = new StudentBuilder().addAttended("LAB7").build()
+                .withParticipation(new Participation("QUIZ9", Participation.Status.PARTICIPATED));
+        Student mixed = new StudentBuilder().build()
+                .withAttendance(new Attendance("Lab7", Attendance.Status.ABSENT));
+
+        assertEquals("lab7", lower.getAttendances().iterator().next().identifier);
+        assertEquals("quiz9", lower.getParticipations().iterator().next().identifier);
+        assertEquals("LAB7", upper.getAttendances().iterator().next().identifier);
+        assertEquals("QUIZ9", upper.getParticipations().iterator().next().identifier);
+        assertEquals("Lab7", mixed.getAttendances().iterator().next().identifier);
+
+        // a changed record takes the spelling it was recorded with
+        Student remarked = mixed.withAttendance(new Attendance("LAB7", Attendance.Status.PRESENT));
+        assertEquals("LAB7", remarked.getAttendances().iterator().next().identifier);
+        assertEquals("Lab7", remarked.withAttendance(new Attendance("Lab7", Attendance.Status.ABSENT))
+                .getAttendances().iterator().next().identifier);
+    }
+
+    @Test
+    public void withAttendance_sharesUnchangedFields() {
+        Student student = new StudentBuilder().withTags("friends").addAssignedNew("A01").addAttended("T01").build();
+
+        Student marked = student.withAttendance(new Attendance("T02", Attendance.Status.ABSENT));
+        assertEquals(new StudentBuilder(student).addNotAttended("T02").build(), marked);
+        assertEquals(50f, marked.getAttendancePercentage());
+        assertSame(student.getTags(), marked.getTags());
+        assertSame(student.getAssignments(), marked.getAssignments());
+
+        // already recorded -> same student
+        assertSame(marked, marked.withAttendance(new Attendance("t02", Attendance.Status.ABSENT)));
+        assertSame(marked, marked.withoutAttendance("T03"));
+
+        // state changed
+        Student present = marked.withAttendance(new Attendance("T02", Attendance.Status.PRESENT));
+        assertTrue(present.hasAttended("T02"));
+        assertEquals(100f, present.getAttendancePercentage());
+
+        Student unmarked = present.withoutAttendance("t02");
+        assertEquals(student, unmarked);
+        assertEquals(student.hashCode(), unmarked.hashCode());
+    }
+
+    @Test
+    public void withTagsAndAssignments_onlyChangedSetCopied() {
+        Student student = new StudentBuilder().withTags("friends").addAttended("T01").build();
+
+        Student tagged = student.withTags(Set.of(new Tag("colleagues")));
+        assertEquals(new StudentBuilder(student).withTags("friends", "colleagues").build(), tagged);
+        assertSame(tagged, tagged.withoutTags(Set.of(new Tag("enemies"))));
+        assertSame(tagged, tagged.withTags(Set.of(new Tag("friends"))));
+        assertEquals(student, tagged.withoutTags(Set.of(new Tag("colleagues"))));
+
+        Student graded = student.withAssignment(new Assignment("A01", Assignment.Status.MARKED));
+        assertSame(student.getTags(), graded.getTags());
+        assertEquals(1, graded.getAssignmentMarkedCount());
+        assertSame(graded, graded.withAssignment(new Assignment("A01", Assignment.Status.MARKED)));
+        assertEquals(student, graded.withoutAssignment("a01"));
+        assertSame(graded, graded.withoutAssignment("A02"));
+    }
+
+    @Test
+    public void withRecords_appliedTogether() {
+        Student student = new StudentBuilder().withTags("friends").addAttended("T01").addAssignedNew("A01").build();
+
+        Student edited = student.withRecords(
+                List.of(new Attendance("T01", Attendance.Status.ABSENT),
+                        new Attendance("T02", Attendance.Status.PRESENT)),
+                List.of(new Participation("P01", Participation.Status.PARTICIPATED)),
+                List.of(new Assignment("A01", Assignment.Status.MARKED)));
+        assertEquals(new StudentBuilder().withTags("friends").addNotAttended("T01").addAttended("T02")
+                .addParticipations("P01").addAssignedMarked("A01").build(), edited);
+        assertEquals(50f, edited.getAttendancePercentage());
+        assertEquals(1, edited.getAssignmentMarkedCount());
+        assertTrue(edited.hasParticipated("P01"));
+        assertSame(student.getTags(), edited.getTags());
+
+        // only attendance changed -> assignments shared
+        Student marked = student.withRecords(List.of(new Attendance("T03", Attendance.Status.PRESENT)), List.of(),
+                List.of(new Assignment("a01", Assignment.Status.NEW)));
+        assertSame(student.getAssignments(), marked.getAssignments());
+
+        // all already recorded -> same student
+        assertSame(edited, edited.withRecords(List.of(new Attendance("t02", Attendance.Status.PRESENT)),
+                List.of(new Participation("P01", Participation.Status.PARTICIPATED)),
+                List.of(new Assignment("A01", Assignment.Status.MARKED))));
+        assertSame(student, student.withRecords(List.of(), List.of(), List.of()));
+    }
+
+    @Test
+    public void hashCode_equalStudents_sameHashCode() {
+        Student student = new StudentBuilder(ALICE).build();
+        Student upperCaseName = new StudentBuilder(ALICE).withName(ALICE.getName().fullName.toUpperCase()).build();
+        assertEquals(student, upperCaseName);
+        assertEquals(student.hashCode(), upperCaseName.hashCode());
+        assertEquals(student.getKey(), upperCaseName.getKey());
+    }
+
+    @Test
+    public void getKey_editedStudent_keySharedUnlessIdentityChanges() {
+        Student tagged = ALICE.withTags(Set.of(new Tag("colleagues")));
+        assertSame(ALICE.getKey(), tagged.getKey());
+        assertTrue(ALICE.isSameStudent(tagged));
+        assertFalse(ALICE.getKey().equals(BOB.getKey()));
+        assertEquals(StudentKey.of(ALICE), ALICE.getKey());
+    }
 }
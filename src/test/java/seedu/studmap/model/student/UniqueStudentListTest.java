@@ -7,10 +7,13 @@ import static seedu.studmap.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.studmap.testutil.Assert.assertThrows;
 import static seedu.studmap.testutil.TypicalStudents.ALICE;
 import static seedu.studmap.testutil.TypicalStudents.BOB;
+import static seedu.studmap.testutil.TypicalStudents.CARL;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
@@ -46,6 +49,28 @@ public class UniqueStudentListTest {
         assertTrue(uniqueStudentList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_studentWithNameInDifferentCase_returnsTrue() {
+        uniqueStudentList.add(ALICE);
+        Student upperCaseAlice = new StudentBuilder(ALICE).withName(ALICE.getNameString().toUpperCase()).build();
+        assertTrue(uniqueStudentList.contains(upperCaseAlice));
+    }
+
+    @Test
+    public void contains_studentRemovedFromList_returnsFalse() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.remove(ALICE);
+        assertFalse(uniqueStudentList.contains(ALICE));
+    }
+
+    @Test
+    public void contains_studentReplacedInList_returnsFalse() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.setStudent(ALICE, BOB);
+        assertFalse(uniqueStudentList.contains(ALICE));
+        assertTrue(uniqueStudentList.contains(BOB));
+    }
+
     @Test
     public void add_nullStudent_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueStudentList.add(null));
@@ -57,6 +82,29 @@ public class UniqueStudentListTest {
         assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.add(ALICE));
     }
 
+    @Test
+    public void addAll_newStudents_addsInOrder() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.addAll(Arrays.asList(CARL, BOB));
+        UniqueStudentList expectedUniqueStudentList = new UniqueStudentList();
+        expectedUniqueStudentList.add(ALICE);
+        expectedUniqueStudentList.add(CARL);
+        expectedUniqueStudentList.add(BOB);
+        assertEquals(expectedUniqueStudentList, uniqueStudentList);
+
+        // positions of the added students are usable
+        uniqueStudentList.remove(CARL);
+        assertEquals(1, uniqueStudentList.positionOf(BOB));
+    }
+
+    @Test
+    public void addAll_duplicateStudents_throwsDuplicateStudentExceptionWithoutAdding() {
+        uniqueStudentList.add(ALICE);
+        assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.addAll(Arrays.asList(BOB, ALICE)));
+        assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.addAll(Arrays.asList(BOB, BOB)));
+        assertFalse(uniqueStudentList.contains(BOB));
+    }
+
     @Test
     public void setStudent_nullTargetstudent_throwsNullPointerException() {
         Student test = ALICE;
@@ -127,6 +175,100 @@ public class UniqueStudentListTest {
         assertEquals(expectedUniqueStudentList, uniqueStudentList);
     }
 
+    @Test
+    public void remove_thenEditStudentAfterRemovedPosition_success() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.add(BOB);
+        uniqueStudentList.add(CARL);
+        uniqueStudentList.remove(ALICE);
+        Student editedCarl = new StudentBuilder(CARL).withTags(VALID_TAG_HUSBAND).build();
+        uniqueStudentList.setStudent(CARL, editedCarl);
+        uniqueStudentList.remove(BOB);
+        UniqueStudentList expectedUniqueStudentList = new UniqueStudentList();
+        expectedUniqueStudentList.add(editedCarl);
+        assertEquals(expectedUniqueStudentList, uniqueStudentList);
+    }
+
+    @Test
+    public void remove_studentWithSameIdentityButDifferentFields_throwsStudentNotFoundException() {
+        uniqueStudentList.add(ALICE);
+        Student editedAlice = new StudentBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        assertThrows(StudentNotFoundException.class, () -> uniqueStudentList.remove(editedAlice));
+    }
+
+    @Test
+    public void removeAll_existingStudents_removesStudents() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.add(BOB);
+        uniqueStudentList.add(CARL);
+        uniqueStudentList.removeAll(Arrays.asList(CARL, ALICE));
+        UniqueStudentList expectedUniqueStudentList = new UniqueStudentList();
+        expectedUniqueStudentList.add(BOB);
+        assertEquals(expectedUniqueStudentList, uniqueStudentList);
+        assertFalse(uniqueStudentList.contains(ALICE));
+
+        // positions of the remaining students are still usable
+        uniqueStudentList.remove(BOB);
+        assertEquals(new UniqueStudentList(), uniqueStudentList);
+    }
+
+    @Test
+    public void removeAll_studentDoesNotExist_throwsStudentNotFoundException() {
+        uniqueStudentList.add(ALICE);
+        assertThrows(StudentNotFoundException.class, () -> uniqueStudentList.removeAll(Arrays.asList(ALICE, BOB)));
+        assertTrue(uniqueStudentList.contains(ALICE));
+    }
+
+    @Test
+    public void setStudents_replacementMap_replacesAllTargets() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.add(CARL);
+        Student editedAlice = new StudentBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        Map<Student, Student> replacements = new LinkedHashMap<>();
+        replacements.put(ALICE, editedAlice);
+        replacements.put(CARL, BOB);
+        uniqueStudentList.setStudents(replacements);
+        UniqueStudentList expectedUniqueStudentList = new UniqueStudentList();
+        expectedUniqueStudentList.add(editedAlice);
+        expectedUniqueStudentList.add(BOB);
+        assertEquals(expectedUniqueStudentList, uniqueStudentList);
+        assertFalse(uniqueStudentList.contains(CARL));
+    }
+
+    @Test
+    public void setStudents_replacementMapSwappingIdentities_success() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.add(BOB);
+        Map<Student, Student> replacements = new LinkedHashMap<>();
+        replacements.put(ALICE, BOB);
+        replacements.put(BOB, ALICE);
+        uniqueStudentList.setStudents(replacements);
+        UniqueStudentList expectedUniqueStudentList = new UniqueStudentList();
+        expectedUniqueStudentList.add(BOB);
+        expectedUniqueStudentList.add(ALICE);
+        assertEquals(expectedUniqueStudentList, uniqueStudentList);
+    }
+
+    @Test
+    public void setStudents_replacementMapWithCollidingEdits_throwsDuplicateStudentException() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.add(CARL);
+        Map<Student, Student> replacements = new LinkedHashMap<>();
+        replacements.put(ALICE, BOB);
+        replacements.put(CARL, BOB);
+        assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.setStudents(replacements));
+        // nothing is applied when the batch is rejected
+        assertTrue(uniqueStudentList.contains(ALICE));
+        assertTrue(uniqueStudentList.contains(CARL));
+    }
+
+    @Test
+    public void setStudents_replacementMapWithMissingTarget_throwsStudentNotFoundException() {
+        uniqueStudentList.add(ALICE);
+        Map<Student, Student> replacements = Map.of(CARL, BOB);
+        assertThrows(StudentNotFoundException.class, () -> uniqueStudentList.setStudents(replacements));
+    }
+
     @Test
     public void setStudents_nullUniquestudentList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueStudentList.setStudents((UniqueStudentList) null));
@@ -162,6 +304,18 @@ public class UniqueStudentListTest {
         assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.setStudents(listWithDuplicateStudents));
     }
 
+    @Test
+    public void setStudents_listWithMultipleDuplicates_reportsEveryDuplicatePair() {
+        List<Student> listWithDuplicateStudents = Arrays.asList(ALICE, BOB, ALICE, BOB);
+        String expectedMessage = UniqueStudentList.MESSAGE_DUPLICATES_FOUND
+                + String.format(UniqueStudentList.MESSAGE_DUPLICATE_PAIR,
+                        ALICE.getName(), ALICE.getId(), ALICE.getModule(), 1, 3)
+                + String.format(UniqueStudentList.MESSAGE_DUPLICATE_PAIR,
+                        BOB.getName(), BOB.getId(), BOB.getModule(), 2, 4);
+        assertThrows(DuplicateStudentException.class, expectedMessage, ()
+            -> uniqueStudentList.setStudents(listWithDuplicateStudents));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,229 @@
+package seedu.studmap.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.studmap.testutil.Assert.assertThrows;
+import static seedu.studmap.testutil.TypicalStudents.ALICE;
+import static seedu.studmap.testutil.TypicalStudents.HOON;
+import static seedu.studmap.testutil.TypicalStudents.IDA;
+import static seedu.studmap.testutil.TypicalStudents.getTypicalStudMap;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.studmap.commons.core.SavePolicy;
+import seedu.studmap.model.ReadOnlyStudMap;
+import seedu.studmap.model.StudMap;
+
+public class WriteBehindStudMapStorageTest {
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
+    private static final long HOUR_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_negativeDelay_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new WriteBehindStudMapStorage(
+                new JsonStudMapStorage(testFolder.resolve("studMap.json")), SavePolicy.DEBOUNCED, -1));
+    }
+
+    @Test
+    public void saveStudMap_everyCommand_writtenInBackground() throws Exception {
+        Path filePath = testFolder.resolve("studMap.json");
+        WriteBehindStudMapStorage storage = new WriteBehindStudMapStorage(
+                new JsonStudMapStorage(filePath), SavePolicy.EVERY_COMMAND, 0);
+        StudMap original = getTypicalStudMap();
+
+        storage.saveStudMap(original);
+        storage.flushStudMap();
+        assertEquals(original, new StudMap(new JsonStudMapStorage(filePath).readStudMap().get()));
+
+        // reads see the latest save
+        original.addStudent(HOON);
+        storage.saveStudMap(original);
+        assertEquals(original, new StudMap(storage.readStudMap().get()));
+    }
+
+    @Test
+    public void saveStudMap_burstWhileWriting_writtenOnce() throws Exception {
+        BlockingStudMapStorageStub target = new BlockingStudMapStorageStub(testFolder.resolve("studMap.json"));
+        WriteBehindStudMapStorage storage = new WriteBehindStudMapStorage(target, SavePolicy.EVERY_COMMAND, 0);
+        StudMap studMap = getTypicalStudMap();
+
+        storage.saveStudMap(studMap);
+        target.writeStarted.await();
+        studMap.addStudent(HOON);
+        storage.saveStudMap(studMap);
+        studMap.addStudent(IDA);
+        storage.saveStudMap(studMap);
+        target.writeReleased.countDown();
+        storage.flushStudMap();
+
+        assertEquals(2, target.saved.size());
+        assertEquals(studMap, new StudMap(target.saved.get(1)));
+    }
+
+    @Test
+    public void saveStudMap_debounced_writtenOnceAfterDelay() throws Exception {
+        BlockingStudMapStorageStub target = new BlockingStudMapStorageStub(testFolder.resolve("studMap.json"));
+        target.writeReleased.countDown();
+        WriteBehindStudMapStorage storage = new WriteBehindStudMapStorage(target, SavePolicy.DEBOUNCED, HOUR_MILLIS);
+        StudMap studMap = getTypicalStudMap();
+
+        storage.saveStudMap(studMap);
+        studMap.addStudent(HOON);
+        storage.saveStudMap(studMap);
+        assertEquals(0, target.saved.size());
+
+        storage.flushStudMap();
+        assertEquals(1, target.saved.size());
+        assertEquals(studMap, new StudMap(target.saved.get(0)));
+    }
+
+    @Test
+    public void saveStudMap_debouncedSavesKeepComing_delayRestarted() throws Exception {
+        BlockingStudMapStorageStub target = new BlockingStudMapStorageStub(testFolder.resolve("studMap.json"));
+        target.writeReleased.countDown();
+        WriteBehindStudMapStorage storage = new WriteBehindStudMapStorage(target, SavePolicy.DEBOUNCED, 1000);
+        StudMap studMap = getTypicalStudMap();
+
+        storage.saveStudMap(studMap);
+        Thread.sleep(600);
+        studMap.addStudent(HOON);
+        storage.saveStudMap(studMap);
+        Thread.sleep(600);
+        // more than the delay since the first save, but less since the last one
+        assertEquals(0, target.saved.size());
+
+        target.writeStarted.await();
+        storage.flushStudMap();
+        assertEquals(1, target.saved.size());
+        assertEquals(studMap, new StudMap(target.saved.get(0)));
+    }
+
+    @Test
+    public void saveStudMap_onExit_snapshotWrittenOnFlush() throws Exception {
+        BlockingStudMapStorageStub target = new BlockingStudMapStorageStub(testFolder.resolve("studMap.json"));
+        target.writeReleased.countDown();
+        WriteBehindStudMapStorage storage = new WriteBehindStudMapStorage(target, SavePolicy.ON_EXIT, 0);
+        StudMap studMap = getTypicalStudMap();
+        StudMap expectedStudMap = getTypicalStudMap();
+
+        storage.saveStudMap(studMap);
+        studMap.removeStudent(ALICE); // changed after the save
+        assertEquals(0, target.saved.size());
+
+        storage.flushStudMap();
+        assertEquals(1, target.saved.size());
+        assertEquals(expectedStudMap, new StudMap(target.saved.get(0)));
+    }
+
+    @Test
+    public void saveStudMap_otherFile_writtenBeforeReturning() throws Exception {
+        WriteBehindStudMapStorage storage = new WriteBehindStudMapStorage(
+                new JsonStudMapStorage(testFolder.resolve("studMap.json")), SavePolicy.ON_EXIT, 0);
+        Path otherFilePath = testFolder.resolve("otherStudMap.json");
+        StudMap original = getTypicalStudMap();
+
+        storage.saveStudMap(original, otherFilePath);
+        assertEquals(original, new StudMap(new JsonStudMapStorage(otherFilePath).readStudMap().get()));
+    }
+
+    @Test
+    public void saveStudMap_writeFails_reportedAndRetriedOnFlush() throws Exception {
+        FailingStudMapStorageStub target = new FailingStudMapStorageStub(testFolder.resolve("studMap.json"));
+        WriteBehindStudMapStorage storage = new WriteBehindStudMapStorage(target, SavePolicy.EVERY_COMMAND, 0);
+        CompletableFuture<IOException> failure = new CompletableFuture<>();
+        storage.setSaveFailureHandler(failure::complete);
+
+        storage.saveStudMap(getTypicalStudMap());
+        assertSame(DUMMY_IO_EXCEPTION, failure.get(1, TimeUnit.MINUTES));
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), storage::flushStudMap);
+        assertEquals(2, target.attempts);
+    }
+
+    @Test
+    public void readStudMap_earlierWriteFailed_readAndFailureReported() throws Exception {
+        FailingStudMapStorageStub target = new FailingStudMapStorageStub(testFolder.resolve("studMap.json"));
+        WriteBehindStudMapStorage storage = new WriteBehindStudMapStorage(target, SavePolicy.ON_EXIT, 0);
+        List<IOException> failures = new CopyOnWriteArrayList<>();
+        storage.setSaveFailureHandler(failures::add);
+        storage.saveStudMap(getTypicalStudMap());
+
+        // another file is read without writing the pending student map
+        assertFalse(storage.readStudMap(testFolder.resolve("otherStudMap.json")).isPresent());
+        assertEquals(0, target.attempts);
+
+        assertFalse(storage.readStudMap().isPresent());
+        assertEquals(1, target.attempts);
+        assertEquals(List.of(DUMMY_IO_EXCEPTION), failures);
+    }
+
+    @Test
+    public void saveStudMap_writeThrowsRuntimeException_reported() throws Exception {
+        IllegalStateException serializationFailure = new IllegalStateException("dummy failure");
+        WriteBehindStudMapStorage storage = new WriteBehindStudMapStorage(
+                new JsonStudMapStorage(testFolder.resolve("studMap.json")) {
+                    @Override
+                    public void saveStudMap(ReadOnlyStudMap studMap, Path filePath) {
+                        throw serializationFailure;
+                    }
+                }, SavePolicy.EVERY_COMMAND, 0);
+        CompletableFuture<IOException> failure = new CompletableFuture<>();
+        storage.setSaveFailureHandler(failure::complete);
+
+        storage.saveStudMap(getTypicalStudMap());
+        assertSame(serializationFailure, failure.get(1, TimeUnit.MINUTES).getCause());
+    }
+
+    /**
+     * A stub that records the student maps it saves, and blocks its writes until released.
+     */
+    private static class BlockingStudMapStorageStub extends JsonStudMapStorage {
+        private final List<ReadOnlyStudMap> saved = new CopyOnWriteArrayList<>();
+        private final CountDownLatch writeStarted = new CountDownLatch(1);
+        private final CountDownLatch writeReleased = new CountDownLatch(1);
+
+        private BlockingStudMapStorageStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveStudMap(ReadOnlyStudMap studMap, Path filePath) throws IOException {
+            writeStarted.countDown();
+            try {
+                writeReleased.await();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            saved.add(studMap);
+        }
+    }
+
+    /**
+     * A stub that throws an {@code IOException} when the save method is called.
+     */
+    private static class FailingStudMapStorageStub extends JsonStudMapStorage {
+        private int attempts;
+
+        private FailingStudMapStorageStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveStudMap(ReadOnlyStudMap studMap, Path filePath) throws IOException {
+            attempts++;
+            throw DUMMY_IO_EXCEPTION;
+        }
+    }
+}